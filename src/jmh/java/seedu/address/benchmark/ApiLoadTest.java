@@ -0,0 +1,177 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.api.ApiServer;
+import seedu.address.logic.CommandWriter;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ItemModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BackgroundItemStorage;
+import seedu.address.storage.JournalItemStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Load tests the HTTP API of {@link ApiServer} over a loopback connection. Reader threads get single items, and now
+ * and then list all the tasks, while writer threads add tasks, for a fixed time. Reports the throughput and the
+ * median and 99th percentile latency of each kind of request.
+ *
+ * Unlike the other benchmarks this is not run by JMH, as it measures the latency of each request. Run it with
+ * {@code java seedu.address.benchmark.ApiLoadTest [ITEMS] [READERS] [WRITERS] [SECONDS]}.
+ */
+public class ApiLoadTest {
+    private static final int LISTS_PER_GET = 50;
+
+    private final int size;
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final AtomicInteger nextTask = new AtomicInteger();
+    private URI baseUri;
+
+    private ApiLoadTest(int size) {
+        this.size = size;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int readers = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int writers = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+        new ApiLoadTest(size).run(readers, writers, seconds);
+    }
+
+    private void run(int readers, int writers, int seconds) throws Exception {
+        Path directory = Files.createTempDirectory("api-load-test");
+        StorageManager storage = new StorageManager(
+                new BackgroundItemStorage(new JournalItemStorage(directory.resolve("items.json"))),
+                new JsonUserPrefsStorage(directory.resolve("preferences.json")));
+        ItemModelManager model = new ItemModelManager(BenchmarkData.generateItemStorage(size), new UserPrefs());
+        // Every command would otherwise be logged.
+        Logger.getLogger(LogicManager.class.getSimpleName()).setLevel(Level.WARNING);
+        CommandWriter commandWriter = new CommandWriter(new LogicManager(model, storage));
+        ApiServer server = new ApiServer(commandWriter, 0);
+        server.start();
+        baseUri = URI.create("http://127.0.0.1:" + server.getPort());
+
+        // Warm up the server and the client before measuring.
+        runClients(readers, writers, System.nanoTime() + 2_000_000_000L);
+        Latencies[] latencies = runClients(readers, writers, System.nanoTime() + seconds * 1_000_000_000L);
+
+        System.out.printf("%d items, %d readers, %d writers, %d s%n", size, readers, writers, seconds);
+        System.out.println("request                 count    per s   p50 ms   p99 ms   max ms");
+        latencies[0].report("GET /items/ID", seconds);
+        latencies[1].report("GET /items?kind=task", seconds);
+        latencies[2].report("POST /commands (task)", seconds);
+
+        server.stop();
+        commandWriter.shutdown();
+        storage.flush();
+    }
+
+    /**
+     * Runs the reader and writer threads until the deadline.
+     * @return the latencies of the item gets, the task lists and the commands.
+     */
+    private Latencies[] runClients(int readers, int writers, long deadline) throws InterruptedException {
+        Latencies gets = new Latencies();
+        Latencies lists = new Latencies();
+        Latencies commands = new Latencies();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            Random random = new Random(i);
+            threads.add(new Thread(() -> {
+                for (int request = 1; System.nanoTime() < deadline; request++) {
+                    if (request % LISTS_PER_GET == 0) {
+                        lists.add(time(get("/items?kind=task")));
+                    } else {
+                        gets.add(time(get("/items/" + random.nextInt(size))));
+                    }
+                }
+            }));
+        }
+        for (int i = 0; i < writers; i++) {
+            threads.add(new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    String command = "task Load test task " + nextTask.getAndIncrement() + " -p high -t load";
+                    commands.add(time(post("/commands", "{\"command\": \"" + command + "\"}")));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new Latencies[] {gets, lists, commands};
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).GET().build();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).POST(HttpRequest.BodyPublishers.ofString(body)).build();
+    }
+
+    /**
+     * Sends the request and reads the whole response.
+     * @return the time taken in nanoseconds.
+     */
+    private long time(HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(request.uri() + " failed with " + response.statusCode() + ": "
+                        + new String(response.body()));
+            }
+        } catch (IOException | InterruptedException e) {
+            throw new IllegalStateException(request.uri() + " failed", e);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * The latencies of one kind of request, in nanoseconds, gathered from several threads.
+     */
+    private static class Latencies {
+        private long[] nanos = new long[1024];
+        private int count = 0;
+
+        synchronized void add(long latency) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+        }
+
+        synchronized void report(String name, int seconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            System.out.printf("%-22s %7d %8.0f %8.2f %8.2f %8.2f%n", name, count, (double) count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    count == 0 ? 0 : sorted[count - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)] / 1e6;
+        }
+    }
+}
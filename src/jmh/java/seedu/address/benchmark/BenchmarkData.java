@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.core.item.Event;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.core.item.ItemDescription;
+import seedu.address.commons.core.item.Priority;
+import seedu.address.commons.core.item.Reminder;
+import seedu.address.commons.core.item.Task;
+import seedu.address.model.ItemStorage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates deterministic item data for the benchmarks.
+ */
+public class BenchmarkData {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 1, 1, 8, 0);
+    private static final String[] WORDS = {"homework", "meeting", "exam", "lunch", "project", "report", "gym",
+        "dentist", "lecture", "tutorial", "groceries", "deadline"};
+    private static final String[] TAGS = {"school", "work", "urgent", "family", "health"};
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns the {@code index}-th generated item. Every item has a distinct description, and the items cycle
+     * through tasks, events and reminders so that every kind of item is represented.
+     */
+    public static Item generateItem(int index) {
+        Item.ItemBuilder builder = new Item.ItemBuilder();
+        builder.setItemDescription(new ItemDescription(WORDS[index % WORDS.length] + " "
+                + WORDS[(index / WORDS.length) % WORDS.length] + " " + index));
+
+        Priority priority = Priority.values()[index % Priority.values().length];
+        LocalDateTime dateTime = START.plusHours(index);
+        if (index % 3 != 1) {
+            builder.setTask(new Task(priority, index % 2 == 0));
+        }
+        if (index % 3 != 0) {
+            builder.setEvent(new Event(dateTime, Duration.ofMinutes(30 + index % 4 * 30), priority));
+        }
+        if (index % 2 == 0) {
+            builder.setReminder(new Reminder(dateTime.minusHours(1)));
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        tags.add(new Tag(TAGS[index % TAGS.length]));
+        if (index % 4 == 0) {
+            tags.add(new Tag(TAGS[(index + 1) % TAGS.length]));
+        }
+        builder.setTags(tags);
+        return builder.build();
+    }
+
+    /**
+     * Returns an {@code ItemStorage} holding the first {@code size} generated items.
+     */
+    public static ItemStorage generateItemStorage(int size) {
+        ItemStorage itemStorage = new ItemStorage();
+        for (int i = 0; i < size; i++) {
+            itemStorage.add(generateItem(i));
+        }
+        itemStorage.clearPendingChanges();
+        return itemStorage;
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a typical command line for every command word, from the dispatch on the command word through the
+ * tokenizing of the flags to the parsing of the dates and times.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandParserBenchmark {
+
+    private static final Map<String, String> COMMAND_LINES = new HashMap<>();
+
+    static {
+        COMMAND_LINES.put("task", "task Finish tutorial -d 25/09/2019 2359 -r 24/09/2019 1200 -p high -t school");
+        COMMAND_LINES.put("event", "event Team meeting -d 2019-09-25T14:00 -r 2019-09-25T13:30 -p medium -t work");
+        COMMAND_LINES.put("reminder", "reminder Call mum -r 26/09/2019 1800 -t family");
+        COMMAND_LINES.put("edit", "edit 2 -td Revise lecture notes -d 27/09/2019 1000 -p low -t school");
+        COMMAND_LINES.put("delete", "delete 3");
+        COMMAND_LINES.put("clear", "clear");
+        COMMAND_LINES.put("find", "find quiz exam -f");
+        COMMAND_LINES.put("undo", "undo 2");
+        COMMAND_LINES.put("redo", "redo");
+        COMMAND_LINES.put("show", "show E");
+        COMMAND_LINES.put("sort", "sort");
+        COMMAND_LINES.put("range", "range -d 25/09/2019 0800 -e 26/09/2019 1800");
+        COMMAND_LINES.put("batch", "batch data/import-2019.txt");
+        COMMAND_LINES.put("exit", "exit");
+    }
+
+    @Param({"task", "event", "reminder", "edit", "delete", "clear", "find", "undo", "redo", "show", "sort", "range",
+        "batch", "exit"})
+    public String commandWord;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String commandLine;
+
+    @Setup
+    public void setUp() throws ParseException {
+        for (String word : AddressBookParser.getCommandWords()) {
+            if (!COMMAND_LINES.containsKey(word)) {
+                throw new IllegalStateException("No command line to benchmark for " + word);
+            }
+        }
+        commandLine = COMMAND_LINES.get(commandWord);
+        // Fail before measuring if the command line is not valid.
+        parser.parseCommand(commandLine);
+    }
+
+    /**
+     * Parses the command line of the command word.
+     */
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandLine);
+    }
+}
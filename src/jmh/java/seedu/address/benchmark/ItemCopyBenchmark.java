@@ -0,0 +1,72 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.model.ItemStorage;
+
+/**
+ * Compares copying items structurally against copying them through a JSON round trip,
+ * which is how items used to be copied.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ItemCopyBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    private ItemStorage itemStorage;
+    private List<Item> items;
+
+    @Setup
+    public void setUp() {
+        itemStorage = BenchmarkData.generateItemStorage(size);
+        items = itemStorage.getItems();
+    }
+
+    /**
+     * Copies every item by sharing its immutable parts.
+     */
+    @Benchmark
+    public List<Item> structuralItemCopy() {
+        List<Item> copies = new ArrayList<>(items.size());
+        for (Item item : items) {
+            copies.add(item.deepCopy());
+        }
+        return copies;
+    }
+
+    /**
+     * Copies every item by writing it out as JSON and parsing it back.
+     */
+    @Benchmark
+    public List<Item> jsonItemCopy() throws IOException {
+        List<Item> copies = new ArrayList<>(items.size());
+        for (Item item : items) {
+            copies.add(Item.fromJson(item.toJson()));
+        }
+        return copies;
+    }
+
+    /**
+     * Copies the whole item storage.
+     */
+    @Benchmark
+    public ItemStorage itemStorageCopy() {
+        return itemStorage.deepCopy();
+    }
+}
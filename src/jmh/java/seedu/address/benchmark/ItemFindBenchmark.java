@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.model.ItemSearchIndex;
+import seedu.address.model.ItemStorage;
+
+/**
+ * Compares finding items through the search index of the item storage against looking at every item,
+ * which is how items used to be found, and measures fuzzy finds through the word index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemFindBenchmark {
+
+    @Param({"100000"})
+    public int size;
+
+    // A keyword found in a single item, one found in a twelfth of the items and one found in a fifth of them.
+    @Param({"54321", "deadline", "urgent"})
+    public String keyword;
+
+    private ItemStorage itemStorage;
+    private List<Item> items;
+
+    @Setup
+    public void setUp() {
+        itemStorage = BenchmarkData.generateItemStorage(size);
+        items = itemStorage.getItems();
+        // Build the search indexes outside of the measurements.
+        itemStorage.find(keyword);
+        itemStorage.fuzzyFind(keyword);
+    }
+
+    /**
+     * Finds the items through the search index.
+     */
+    @Benchmark
+    public List<Item> indexedFind() {
+        return itemStorage.find(keyword);
+    }
+
+    /**
+     * Finds the items by checking every item.
+     */
+    @Benchmark
+    public List<Item> scanningFind() {
+        List<Item> found = new ArrayList<>();
+        String lowerCaseKeyword = keyword.toLowerCase();
+        for (Item item : items) {
+            if (ItemSearchIndex.matches(item, lowerCaseKeyword)) {
+                found.add(item);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the items with words close to the keyword through the word index.
+     */
+    @Benchmark
+    public List<Item> fuzzyFind() {
+        return itemStorage.fuzzyFind(keyword);
+    }
+}
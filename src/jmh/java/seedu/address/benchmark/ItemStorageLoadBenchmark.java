@@ -0,0 +1,158 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import seedu.address.commons.core.item.Event;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.core.item.ItemDescription;
+import seedu.address.commons.core.item.Priority;
+import seedu.address.commons.core.item.Reminder;
+import seedu.address.commons.core.item.Task;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ItemStorage;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.BinaryItemStorage;
+
+/**
+ * Compares loading the data file with the streaming parser against building the whole JSON tree first,
+ * which is how the data file used to be read, and against loading the same items from a binary data file, in full
+ * or lazily from a memory mapped file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ItemStorageLoadBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private Path dataFile;
+    private Path binaryDataFile;
+
+    /**
+     * Writes a JSON and a binary data file with {@code size} items.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ItemStorage itemStorage = BenchmarkData.generateItemStorage(size);
+        dataFile = Files.createTempFile("items", ".json");
+        FileUtil.writeToFile(dataFile, itemStorage.toJson());
+        binaryDataFile = Files.createTempFile("items", ".bin");
+        Files.write(binaryDataFile, BinaryItemStorage.toBinary(itemStorage));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(dataFile);
+        Files.deleteIfExists(binaryDataFile);
+    }
+
+    /**
+     * Loads the data file with the streaming parser.
+     */
+    @Benchmark
+    public ItemStorage streaming() throws IOException, DataConversionException {
+        try (InputStream jsonStream = Files.newInputStream(dataFile)) {
+            return ItemStorage.fromJson(jsonStream);
+        }
+    }
+
+    /**
+     * Loads the binary data file.
+     */
+    @Benchmark
+    public ItemStorage binary() throws IOException, DataConversionException {
+        try (InputStream binaryStream = Files.newInputStream(binaryDataFile)) {
+            return BinaryItemStorage.fromBinary(binaryStream);
+        }
+    }
+
+    /**
+     * Loads the index of the binary data file, leaving the items to be decoded when they are used.
+     */
+    @Benchmark
+    public ItemStorage mapped() throws IOException, DataConversionException {
+        return BinaryItemStorage.fromMappedFile(binaryDataFile);
+    }
+
+    /**
+     * Loads the data file by reading it into a string, building the JSON tree and converting every item node
+     * back to a string to be parsed on its own, as the data file used to be read.
+     */
+    @Benchmark
+    public ItemStorage tree() throws IOException {
+        ItemStorage itemStorage = new ItemStorage();
+        JsonNode node = JsonUtil.getObjectMapper().readTree(FileUtil.readFromFile(dataFile));
+        Iterator<JsonNode> it = node.iterator();
+        while (it.hasNext()) {
+            try {
+                itemStorage.add(itemFromTree(it.next().toString()));
+            } catch (DuplicateItemException e) {
+                continue;
+            }
+        }
+        return itemStorage;
+    }
+
+    /**
+     * Parses an item as {@code Item.fromJson(String)} used to, building a tree of the item and then converting each
+     * part of it back to a string to be parsed into a tree of its own.
+     */
+    private static Item itemFromTree(String jsonString) throws IOException {
+        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
+        Item.ItemBuilder temp = new Item.ItemBuilder();
+
+        JsonNode descriptionNode = JsonUtil.getObjectMapper().readTree(node.get("itemDescription").toString());
+        temp.setItemDescription(new ItemDescription(descriptionNode.get("description").asText()));
+
+        if (node.hasNonNull("task")) {
+            JsonNode taskNode = JsonUtil.getObjectMapper().readTree(node.get("task").toString());
+            temp = temp.setTask(new Task(Priority.valueOf(taskNode.get("priority").asText()),
+                    taskNode.get("complete").asBoolean()));
+        }
+
+        if (node.hasNonNull("event")) {
+            JsonNode eventNode = JsonUtil.getObjectMapper().readTree(node.get("event").toString());
+            temp = temp.setEvent(new Event(LocalDateTime.parse(eventNode.get("startDateTime").asText()),
+                    Duration.parse(eventNode.get("duration").asText()),
+                    Priority.valueOf(eventNode.get("priority").asText())));
+        }
+
+        if (node.hasNonNull("reminder")) {
+            JsonNode reminderNode = JsonUtil.getObjectMapper().readTree(node.get("reminder").toString());
+            temp = temp.setReminder(new Reminder(LocalDateTime.parse(reminderNode.get("dateTime").asText())));
+        }
+
+        Set<Tag> tagsSet = new HashSet<>();
+        Iterator<JsonNode> it = node.get("tags").elements();
+        while (it.hasNext()) {
+            tagsSet.add(new Tag(it.next().get("tagName").asText()));
+        }
+
+        return temp.setTags(tagsSet).build();
+    }
+}
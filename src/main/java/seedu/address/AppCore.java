@@ -0,0 +1,240 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.ItemStorageFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ItemModel;
+import seedu.address.model.ItemModelManager;
+import seedu.address.model.ItemStorage;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BackgroundItemStorage;
+import seedu.address.storage.ItemListStorage;
+import seedu.address.storage.ItemStorageMigrator;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The parts of the application that do not need the UI: the config, storage, model and logic.
+ * They are shared by the app with the UI and the headless app.
+ */
+public class AppCore {
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final ItemModel model;
+    private final Logic logic;
+
+    /**
+     * Reads the config, the user prefs and the items, and runs the batch script given in {@code appParameters}, if
+     * any.
+     */
+    public AppCore(AppParameters appParameters) {
+        config = initConfig(appParameters.getConfigPath());
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        ItemListStorage itemListStorage = new BackgroundItemStorage(initItemListStorage(userPrefs));
+        storage = new StorageManager(itemListStorage, userPrefsStorage);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+
+        if (appParameters.getBatchPath() != null) {
+            runBatch(appParameters.getBatchPath());
+        }
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public ItemModel getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Runs the commands in the script file at {@code scriptPath} before the app starts, saving the items once.
+     */
+    private void runBatch(Path scriptPath) {
+        logger.info("Running batch script : " + scriptPath);
+        try {
+            CommandResult result = logic.execute(BatchCommand.COMMAND_WORD + " " + scriptPath);
+            logger.info(result.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            logger.warning("Failed to run batch script " + scriptPath + " : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the item list storage for the data file format chosen in {@code userPrefs}. <br>
+     * A data file in another format is first converted to that format, keeping a backup of it. If it cannot be
+     * converted, the storage for the format it is in is used instead, so that its items are not lost.
+     */
+    private ItemListStorage initItemListStorage(ReadOnlyUserPrefs userPrefs) {
+        Path itemStorageFilePath = userPrefs.getItemStorageFilePath();
+        ItemStorageFormat format = userPrefs.getItemStorageFormat();
+        if (!FileUtil.isFileExists(itemStorageFilePath)) {
+            return ItemStorageMigrator.createStorage(itemStorageFilePath, format);
+        }
+
+        try {
+            ItemStorageFormat fileFormat = ItemStorageMigrator.detectFormat(itemStorageFilePath);
+            if (!ItemStorageMigrator.canRead(format, fileFormat)) {
+                try {
+                    Path backupPath = ItemStorageMigrator.convert(itemStorageFilePath, fileFormat, format);
+                    logger.info("Converted the data file from the " + fileFormat + " format to the " + format
+                            + " format. The old file is kept at " + backupPath);
+                } catch (IOException | DataConversionException e) {
+                    logger.warning("Could not convert the data file from the " + fileFormat + " format to the "
+                            + format + " format, so it is kept in the " + fileFormat + " format : "
+                            + StringUtil.getDetails(e));
+                    format = fileFormat;
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not read the format of the data file : " + StringUtil.getDetails(e));
+        }
+        return ItemStorageMigrator.createStorage(itemStorageFilePath, format);
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    private ItemModel initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        ItemStorage initialData;
+        try {
+            initialData = storage.toModelType();
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            initialData = new ItemStorage();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initialData = new ItemStorage();
+        }
+
+        return new ItemModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Stops firing the reminders, and saves the user prefs and any items not yet written.
+     */
+    public void stop() {
+        model.stopReminders();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save items " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -14,9 +16,15 @@ import seedu.address.commons.util.FileUtil;
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final String HEADLESS_FLAG = "--headless";
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path batchPath;
+    private boolean isHeadless;
+    private Integer port;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +34,71 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public Path getBatchPath() {
+        return batchPath;
+    }
+
+    public void setBatchPath(Path batchPath) {
+        this.batchPath = batchPath;
+    }
+
+    public boolean isHeadless() {
+        return isHeadless;
+    }
+
+    public void setHeadless(boolean isHeadless) {
+        this.isHeadless = isHeadless;
+    }
+
+    /**
+     * Returns the port of the local socket the headless app takes commands on, or null if it reads them from the
+     * standard input.
+     */
+    public Integer getPort() {
+        return port;
+    }
+
+    public void setPort(Integer port) {
+        this.port = port;
+    }
+
+    /**
+     * Returns the port the headless app serves the HTTP API on, or null if it does not serve it.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before JavaFX is started. Named parameters are given as
+     * {@code --name=value}, as they are to JavaFX.
+     */
+    public static AppParameters parse(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int equalsIndex = arg.indexOf('=');
+            if (arg.startsWith("--") && equalsIndex > 2) {
+                namedParameters.put(arg.substring(2, equalsIndex), arg.substring(equalsIndex + 1));
+            }
+        }
+        AppParameters appParameters = parse(namedParameters);
+        appParameters.setHeadless(Arrays.asList(args).contains(HEADLESS_FLAG));
+        return appParameters;
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,9 +107,42 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchPathParameter = namedParameters.get("batch");
+        if (batchPathParameter != null && !FileUtil.isValidPath(batchPathParameter)) {
+            logger.warning("Invalid batch script path " + batchPathParameter + ". No script will be run.");
+            batchPathParameter = null;
+        }
+        appParameters.setBatchPath(batchPathParameter != null ? Paths.get(batchPathParameter) : null);
+
+        String portParameter = namedParameters.get("port");
+        if (portParameter != null) {
+            appParameters.setPort(parsePort(portParameter));
+        }
+
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null) {
+            appParameters.setApiPort(parsePort(apiPortParameter));
+        }
+
         return appParameters;
     }
 
+    /**
+     * Returns the port number in {@code portParameter}, or null if it is not a valid port.
+     */
+    private static Integer parsePort(String portParameter) {
+        try {
+            int port = Integer.parseInt(portParameter);
+            if (port > 0 && port <= 65535) {
+                return port;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        logger.warning("Invalid port " + portParameter + ". Ignoring it.");
+        return null;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +154,15 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchPath(), otherAppParameters.getBatchPath())
+                && isHeadless() == otherAppParameters.isHeadless()
+                && Objects.equals(getPort(), otherAppParameters.getPort())
+                && Objects.equals(getApiPort(), otherAppParameters.getApiPort());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchPath, isHeadless, port, apiPort);
     }
 }
@@ -0,0 +1,192 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.api.ApiServer;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWriter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without the UI, for scripts and servers with no display.
+ * The commands are read one per line, from the standard input, or from connections to a socket on the loopback
+ * address if a port is given. The result of each command is written back as a header line, {@code OK} or
+ * {@code ERROR} and the number of lines in the result, followed by those lines, so that a result can span several
+ * lines. The reminders are written to the standard output in the same way, under {@code REMINDER}, as they fall
+ * due. An exit command ends the connection it came from, or the app when reading from the standard input.
+ * Given an API port, the app also serves the items and the commands over HTTP through an {@link ApiServer}, and then
+ * keeps running after the standard input ends. The commands run one at a time through a {@link CommandWriter},
+ * wherever they come from.
+ */
+public class HeadlessApp {
+
+    public static final String STATUS_OK = "OK";
+    public static final String STATUS_ERROR = "ERROR";
+    public static final String STATUS_REMINDER = "REMINDER";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final AppParameters appParameters;
+    private final PrintWriter standardOutput =
+            new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), true);
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private AppCore core;
+    private CommandWriter commandWriter;
+    private ApiServer apiServer = null;
+
+    public HeadlessApp(AppParameters appParameters) {
+        this.appParameters = appParameters;
+    }
+
+    /**
+     * Starts the app, and takes commands until the standard input ends or, with a port, until the app is stopped.
+     */
+    public void run() {
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        core = new AppCore(appParameters);
+        commandWriter = new CommandWriter(core.getLogic());
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "headless-shutdown"));
+
+        logger.info("Starting AddressBook " + MainApp.VERSION + " without the UI");
+        Logic logic = core.getLogic();
+        logic.startReminders(Runnable::run, item -> writeResponse(standardOutput, STATUS_REMINDER,
+                item.getItemDescription().getDescription()));
+
+        try {
+            if (appParameters.getApiPort() != null) {
+                apiServer = new ApiServer(commandWriter, appParameters.getApiPort());
+                apiServer.start();
+            }
+            if (appParameters.getPort() != null) {
+                listen(appParameters.getPort());
+            } else {
+                boolean isExit = serve(commandWriter, new BufferedReader(
+                        new InputStreamReader(System.in, StandardCharsets.UTF_8)), standardOutput);
+                if (apiServer != null && !isExit) {
+                    stopped.await();
+                } else if (apiServer != null) {
+                    // The server's dispatcher thread would keep the JVM running.
+                    apiServer.stop();
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to take commands " + StringUtil.getDetails(e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes connections to the port on the loopback address, serving each on its own thread.
+     */
+    private void listen(int port) throws IOException {
+        ExecutorService connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "headless-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress())) {
+            logger.info("Taking commands on " + serverSocket.getLocalSocketAddress());
+            while (true) {
+                Socket socket = serverSocket.accept();
+                connectionExecutor.execute(() -> serveConnection(socket));
+            }
+        }
+    }
+
+    private void serveConnection(Socket socket) {
+        try (Socket connection = socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(
+                     new OutputStreamWriter(connection.getOutputStream(), StandardCharsets.UTF_8))) {
+            serve(commandWriter, in, out);
+        } catch (IOException e) {
+            logger.warning("Connection failed " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Runs each line read from {@code in} as a command through the {@code commandWriter}, writing its result to
+     * {@code out}, until {@code in} ends or an exit command is run.
+     * @return true if an exit command was run.
+     */
+    static boolean serve(CommandWriter commandWriter, BufferedReader in, PrintWriter out) throws IOException {
+        String commandText;
+        while ((commandText = in.readLine()) != null) {
+            if (commandText.trim().isEmpty()) {
+                continue;
+            }
+
+            String status;
+            String response;
+            boolean isExit = false;
+            try {
+                CommandResult commandResult = commandWriter.execute(commandText);
+                status = STATUS_OK;
+                response = commandResult.getFeedbackToUser();
+                isExit = commandResult.isExit();
+            } catch (CommandException | ParseException e) {
+                status = STATUS_ERROR;
+                response = e.getMessage();
+            } catch (RuntimeException e) {
+                // The UI carries on after such a failure too, so one command cannot stop the others.
+                logger.warning("Command failed " + StringUtil.getDetails(e));
+                status = STATUS_ERROR;
+                // The exception may have no message, as a NullPointerException often does.
+                response = String.format(MESSAGE_UNEXPECTED_ERROR, e);
+            }
+            writeResponse(out, status, response);
+
+            if (isExit) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes a header line with the status and the number of lines in the response, followed by the response.
+     */
+    private static void writeResponse(PrintWriter out, String status, String response) {
+        String[] lines = response.split("\\R", -1);
+        synchronized (out) {
+            out.println(status + " " + lines.length);
+            for (String line : lines) {
+                out.println(line);
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * Stops taking commands, and saves the user prefs and the items once the commands already given have run.
+     * Runs when the JVM shuts down.
+     */
+    private void stop() {
+        logger.info("============================ [ Stopping Address Book ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        commandWriter.shutdown();
+        core.stop();
+        stopped.countDown();
+    }
+}
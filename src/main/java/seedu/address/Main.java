@@ -17,9 +17,17 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given the {@code --headless} flag, the application is run by {@link HeadlessApp}
+ * instead, without starting JavaFX.
  */
 public class Main {
     public static void main(String[] args) {
+        AppParameters appParameters = AppParameters.parse(args);
+        if (appParameters.isHeadless()) {
+            new HeadlessApp(appParameters).run();
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
@@ -0,0 +1,287 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWriter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ItemStorage;
+
+/**
+ * Serves the items and the commands over HTTP as JSON, on the loopback address only.
+ * <ul>
+ *     <li>{@code GET /items} lists the items with their IDs, or only the tasks, events or reminders given
+ *     {@code ?kind=task}, {@code event} or {@code reminder}.</li>
+ *     <li>{@code GET /items/ID} gets the item with the ID.</li>
+ *     <li>{@code POST /commands} runs the command in the body, {@code {"command": "..."}}, and returns its
+ *     feedback.</li>
+ * </ul>
+ * The requests are handled on a pool of threads. The items are read from the latest snapshot published by the
+ * {@link CommandWriter}, so reads run alongside each other and alongside the commands, and each sees the items as
+ * they were between two commands. The commands are handed to the command writer, which runs them one at a time.
+ * The items are written in the same form as in the data file.
+ */
+public class ApiServer {
+    public static final int HANDLER_THREADS = 8;
+    public static final String ITEMS_PATH = "/items";
+    public static final String COMMANDS_PATH = "/commands";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    static {
+        // The server writes the headers and the body of a response separately. Without this, the body waits for the
+        // client to acknowledge the headers, which the client may put off for 40 ms.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final CommandWriter commandWriter;
+    private final ObjectMapper objectMapper = JsonUtil.getObjectMapper();
+    // Writes an item into a response without flushing it, so that a list of items is sent in large chunks.
+    private final ObjectWriter itemWriter =
+            objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private final HttpServer server;
+    private final ExecutorService handlerExecutor = Executors.newFixedThreadPool(HANDLER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "api-handler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean isStopped = false;
+
+    /**
+     * Creates a server on the port of the loopback address, which is not started yet.
+     * @param port the port to listen on, or 0 for any free port.
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(CommandWriter commandWriter, int port) throws IOException {
+        requireNonNull(commandWriter);
+        this.commandWriter = commandWriter;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(ITEMS_PATH, exchange -> handle(exchange, this::handleItems));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, this::handleCommands));
+        server.setExecutor(handlerExecutor);
+    }
+
+    public void start() {
+        server.start();
+        logger.info("Serving the API on " + server.getAddress());
+    }
+
+    /**
+     * Stops taking requests, and waits a second at most for the requests being handled to finish.
+     * Does nothing if the server has already been stopped.
+     */
+    public synchronized void stop() {
+        if (isStopped) {
+            return;
+        }
+        isStopped = true;
+        server.stop(1);
+        handlerExecutor.shutdown();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles a request, sending an error response if the handler fails.
+     */
+    private void handle(HttpExchange exchange, Handler handler) {
+        try {
+            try {
+                handler.handle(exchange);
+            } catch (RequestException e) {
+                sendError(exchange, e.statusCode, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warning("Failed to handle " + exchange.getRequestURI() + " " + StringUtil.getDetails(e));
+                sendError(exchange, 500, e.toString());
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to respond to " + exchange.getRequestURI() + " " + StringUtil.getDetails(e));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleItems(HttpExchange exchange) throws IOException, RequestException {
+        requireMethod(exchange, "GET");
+        ItemStorage items = commandWriter.getSnapshot();
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals(ITEMS_PATH) || path.equals(ITEMS_PATH + "/")) {
+            sendItems(exchange, items, parseKind(exchange.getRequestURI()));
+            return;
+        }
+
+        int id;
+        try {
+            id = Integer.parseInt(path.substring(ITEMS_PATH.length() + 1));
+        } catch (NumberFormatException e) {
+            throw new RequestException(404, "No such resource " + path);
+        }
+        Item item = items.getById(id).orElseThrow(() -> new RequestException(404, "No item with ID " + id));
+        try (JsonGenerator generator = startJson(exchange, 200)) {
+            writeItem(generator, id, item);
+        }
+    }
+
+    private void handleCommands(HttpExchange exchange) throws IOException, RequestException {
+        requireMethod(exchange, "POST");
+        if (!exchange.getRequestURI().getPath().equals(COMMANDS_PATH)) {
+            throw new RequestException(404, "No such resource " + exchange.getRequestURI().getPath());
+        }
+
+        JsonNode command;
+        try (InputStream body = exchange.getRequestBody()) {
+            JsonNode request = objectMapper.readTree(body);
+            // An empty body is read as null.
+            command = request == null ? null : request.get("command");
+        } catch (IOException e) {
+            throw new RequestException(400, "The body must be a JSON object with a command");
+        }
+        if (command == null || !command.isTextual()) {
+            throw new RequestException(400, "The body must be a JSON object with a command");
+        }
+
+        CommandResult result;
+        try {
+            result = commandWriter.execute(command.asText());
+        } catch (CommandException | ParseException e) {
+            throw new RequestException(400, e.getMessage());
+        }
+        try (JsonGenerator generator = startJson(exchange, 200)) {
+            generator.writeStartObject();
+            generator.writeStringField("feedback", result.getFeedbackToUser());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Streams the items of the snapshot that pass the filter, in the order of their IDs.
+     */
+    private void sendItems(HttpExchange exchange, ItemStorage items, Predicate<Item> filter) throws IOException {
+        try (JsonGenerator generator = startJson(exchange, 200)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("items");
+            IOException[] failure = {null};
+            items.forEachItem((item, id) -> {
+                if (failure[0] != null || !filter.test(item)) {
+                    return;
+                }
+                try {
+                    writeItem(generator, id, item);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeItem(JsonGenerator generator, int id, Item item) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        generator.writeFieldName("item");
+        itemWriter.writeValue(generator, item.decode());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns the filter for the kind of items asked for in the query, which lets every item through if no kind is
+     * asked for.
+     */
+    private static Predicate<Item> parseKind(URI uri) throws RequestException {
+        String query = uri.getQuery();
+        if (query == null || query.isEmpty()) {
+            return item -> true;
+        }
+        switch (query) {
+        case "kind=task":
+            return Item::hasTask;
+        case "kind=event":
+            return Item::hasEvent;
+        case "kind=reminder":
+            return Item::hasReminder;
+        default:
+            throw new RequestException(400, "Unknown query " + query + ", expected kind=task, event or reminder");
+        }
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) throws RequestException {
+        if (!exchange.getRequestMethod().equals(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            throw new RequestException(405, "Only " + method + " is allowed on " + exchange.getRequestURI().getPath());
+        }
+    }
+
+    /**
+     * Sends the response headers, and returns a generator writing JSON to the body as it is generated.
+     * Closing the generator ends the body.
+     */
+    private JsonGenerator startJson(HttpExchange exchange, int statusCode) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(statusCode, 0);
+        OutputStream body = new BufferedOutputStream(exchange.getResponseBody());
+        return objectMapper.getFactory().createGenerator(body, JsonEncoding.UTF8);
+    }
+
+    private void sendError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        try (JsonGenerator generator = startJson(exchange, statusCode)) {
+            generator.writeStartObject();
+            generator.writeStringField("error", message);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Handles a request, sending the response.
+     */
+    @FunctionalInterface
+    private interface Handler {
+        void handle(HttpExchange exchange) throws IOException, RequestException;
+    }
+
+    /**
+     * Represents a request that cannot be served, with the status code to respond with.
+     */
+    private static class RequestException extends Exception {
+        private final int statusCode;
+
+        RequestException(int statusCode, String message) {
+            super(message);
+            this.statusCode = statusCode;
+        }
+    }
+}
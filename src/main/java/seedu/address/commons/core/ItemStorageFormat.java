@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the items can be saved to the data file in.
+ */
+public enum ItemStorageFormat {
+    /** Human readable JSON, with recent changes kept in a journal next to the data file. */
+    JSON,
+    /** A compact binary encoding that is smaller and faster to load. */
+    BINARY,
+    /** The binary encoding, with the items decoded from the memory mapped file only when they are first used. */
+    MAPPED,
+    /** The binary encoding, split into files by kind and month that are listed in a JSON manifest. */
+    SHARDED
+}
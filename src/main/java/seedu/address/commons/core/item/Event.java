@@ -7,7 +7,8 @@ import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -123,16 +124,46 @@ public class Event {
      * @throws IllegalValueException when the JSON string contains incorrect value
      */
     public static Event fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-
-        String startDateTimeString = node.get("startDateTime").asText();
-        LocalDateTime startDateTime = LocalDateTime.parse(startDateTimeString);
-
-        String durationString = node.get("duration").asText();
-        Duration duration = Duration.parse(durationString);
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
 
-        String priorityString = node.get("priority").asText();
-        Priority priority = Priority.valueOf(priorityString);
+    /**
+     * Creates an event object from the JSON object the parser is positioned at.
+     * The end date time is not read as it is derived from the start date time and the duration.
+     * Leaves the parser at the end of that object.
+     * @param parser the parser positioned at the start of the JSON object that represents the event
+     * @return the event object that is created
+     * @throws IOException when the parser does not point to a JSON object
+     * @throws IllegalArgumentException when the JSON object contains an unknown priority
+     */
+    public static Event fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireCurrentToken(parser, JsonToken.START_OBJECT);
+        LocalDateTime startDateTime = null;
+        Duration duration = null;
+        Priority priority = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+            case "startDateTime":
+                startDateTime = LocalDateTime.parse(parser.getValueAsString());
+                break;
+            case "duration":
+                // Durations are written as seconds instead of ISO-8601 text if the mapper writes dates as numbers.
+                duration = valueToken.isNumeric()
+                        ? Duration.ofNanos(parser.getDecimalValue().movePointRight(9).longValueExact())
+                        : Duration.parse(parser.getValueAsString());
+                break;
+            case "priority":
+                priority = Priority.valueOf(parser.getValueAsString());
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
 
         return new Event(startDateTime, duration, priority);
     }
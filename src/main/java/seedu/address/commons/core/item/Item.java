@@ -5,13 +5,15 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -25,12 +27,20 @@ import seedu.address.model.tag.Tag;
 public class Item {
 
     // Identity fields
+    // All null for a lazy item, whose fields are held by the item it decodes into.
     private final Task task;
     private final Event event;
     private final Reminder reminder;
     // Data fields
     private final ItemDescription itemDescription;
     private final Set<Tag> tags = new HashSet<>();
+    // Cached as items are immutable and are kept in hash based indexes. 0 if not computed yet. It is computed from
+    // fields that never change, so a thread that does not see it set only computes it again.
+    @JsonIgnore
+    private int hash = 0;
+    // Decodes the fields of a lazy item, null if the item was not lazy.
+    @JsonIgnore
+    private final LazyFields lazyFields;
 
     /**
      * Every field must be present and not null.
@@ -43,41 +53,83 @@ public class Item {
         this.reminder = reminder;
         this.itemDescription = itemDescription;
         this.tags.addAll(tags);
+        this.lazyFields = null;
+    }
+
+    private Item(LazyFields lazyFields) {
+        this.task = null;
+        this.event = null;
+        this.reminder = null;
+        this.itemDescription = null;
+        this.lazyFields = lazyFields;
+    }
+
+    /**
+     * Creates an item whose fields are only decoded when they are first used, for items read lazily from the data
+     * file. Whether the item has a task, event and reminder must be known up front, and can be asked for without
+     * decoding the item.
+     * @param decoder decodes the item. It is called at most once, and may be called from any thread.
+     * @return the lazy item.
+     */
+    public static Item lazy(boolean hasTask, boolean hasEvent, boolean hasReminder, Supplier<Item> decoder) {
+        requireNonNull(decoder);
+        return new Item(new LazyFields(hasTask, hasEvent, hasReminder, decoder));
+    }
+
+    /**
+     * Returns true if the fields of this item are known, which is always the case unless it is a lazy item that
+     * has not been used yet.
+     */
+    public boolean isDecoded() {
+        return lazyFields == null || lazyFields.decoded != null;
+    }
+
+    /**
+     * Returns the item holding the fields of this item, decoding them first if it is a lazy item that has not been
+     * decoded yet. That is this item itself unless it is lazy. It has to be used in place of this item wherever the
+     * fields are read directly, as they are when the item is written out as JSON.
+     * @return the item holding the fields of this item.
+     */
+    public Item decode() {
+        return lazyFields == null ? this : lazyFields.get();
     }
 
     public boolean hasTask() {
-        return task != null;
+        return lazyFields == null ? task != null : lazyFields.hasTask;
     }
 
     public boolean hasEvent() {
-        return event != null;
+        return lazyFields == null ? event != null : lazyFields.hasEvent;
     }
 
     public boolean hasReminder() {
-        return reminder != null;
+        return lazyFields == null ? reminder != null : lazyFields.hasReminder;
     }
 
     public Optional<Task> getTask() {
-        if (this.task == null) {
+        Item fields = decode();
+        if (fields.task == null) {
             return Optional.empty();
         } else {
-            return Optional.of(this.task);
+            return Optional.of(fields.task);
         }
     }
 
     public Optional<Event> getEvent() {
-        if (this.event == null) {
+        Item fields = decode();
+        if (fields.event == null) {
             return Optional.empty();
         } else {
-            return Optional.of(this.event);
+            return Optional.of(fields.event);
         }
     }
 
     public Optional<Reminder> getReminder() {
-        if (this.reminder == null) {
+        Item fields = decode();
+        if (fields.reminder == null) {
             return Optional.empty();
         } else {
-            return Optional.of(this.reminder);
+            return Optional.of(fields.reminder);
         }
     }
 
@@ -86,22 +138,23 @@ public class Item {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return Collections.unmodifiableSet(decode().tags);
     }
 
     public ItemDescription getItemDescription() {
-        return itemDescription;
+        return decode().itemDescription;
     }
 
     /**
      * Change ItemDescription
      */
     public Item changeItemDescription(ItemDescription newItemDescription) {
+        Item fields = decode();
         return new ItemBuilder().setItemDescription(newItemDescription)
-                .setTask(task)
-                .setEvent(event)
-                .setReminder(reminder)
-                .setTags(tags)
+                .setTask(fields.task)
+                .setEvent(fields.event)
+                .setReminder(fields.reminder)
+                .setTags(fields.tags)
                 .build();
     }
 
@@ -109,11 +162,12 @@ public class Item {
      * Change Task referenced
      */
     public Item changeTask(Task newTask) {
-        return new ItemBuilder().setItemDescription(itemDescription)
+        Item fields = decode();
+        return new ItemBuilder().setItemDescription(fields.itemDescription)
                 .setTask(newTask)
-                .setEvent(event)
-                .setReminder(reminder)
-                .setTags(tags)
+                .setEvent(fields.event)
+                .setReminder(fields.reminder)
+                .setTags(fields.tags)
                 .build();
     }
 
@@ -121,11 +175,12 @@ public class Item {
      * Change Event referenced
      */
     public Item changeEvent(Event newEvent) {
-        return new ItemBuilder().setItemDescription(itemDescription)
-                .setTask(task)
+        Item fields = decode();
+        return new ItemBuilder().setItemDescription(fields.itemDescription)
+                .setTask(fields.task)
                 .setEvent(newEvent)
-                .setReminder(reminder)
-                .setTags(tags)
+                .setReminder(fields.reminder)
+                .setTags(fields.tags)
                 .build();
     }
 
@@ -133,11 +188,12 @@ public class Item {
      * Change Reminder referenced
      */
     public Item changeReminder(Reminder newReminder) {
-        return new ItemBuilder().setItemDescription(itemDescription)
-                .setTask(task)
-                .setEvent(event)
+        Item fields = decode();
+        return new ItemBuilder().setItemDescription(fields.itemDescription)
+                .setTask(fields.task)
+                .setEvent(fields.event)
                 .setReminder(newReminder)
-                .setTags(tags)
+                .setTags(fields.tags)
                 .build();
     }
 
@@ -145,10 +201,11 @@ public class Item {
      * Change Tags referenced
      */
     public Item changeTags(HashSet<Tag> newTags) {
-        return new ItemBuilder().setItemDescription(itemDescription)
-                .setTask(task)
-                .setEvent(event)
-                .setReminder(reminder)
+        Item fields = decode();
+        return new ItemBuilder().setItemDescription(fields.itemDescription)
+                .setTask(fields.task)
+                .setEvent(fields.event)
+                .setReminder(fields.reminder)
                 .setTags(newTags)
                 .build();
     }
@@ -203,14 +260,20 @@ public class Item {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(task, event, reminder, itemDescription, tags);
+        int result = hash;
+        if (result == 0) {
+            Item fields = decode();
+            result = Objects.hash(fields.task, fields.event, fields.reminder, fields.itemDescription, fields.tags);
+            hash = result;
+        }
+        return result;
     }
 
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
         builder.append("\nDescription: ")
-                .append(itemDescription.toString());
+                .append(getItemDescription().toString());
 
         if (getTask().isPresent()) {
             builder.append("\n\nTask Details: ")
@@ -227,7 +290,7 @@ public class Item {
                     .append(getReminder().get().toString());
         }
 
-        if (tags.size() > 0) {
+        if (getTags().size() > 0) {
             builder.append("\nTags: ");
             getTags().forEach(builder::append);
         }
@@ -323,7 +386,7 @@ public class Item {
      * @throws JsonProcessingException when the item cannot be converted into a JSON string
      */
     public String toJson() throws JsonProcessingException {
-        return JsonUtil.toJsonString(this);
+        return JsonUtil.toJsonString(decode());
     }
 
     /**
@@ -334,43 +397,122 @@ public class Item {
      * @throws IllegalValueException when the JSON string contains incorrect value
      */
     public static Item fromJson(String jsonString) throws IOException, NullPointerException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        ItemBuilder temp = new ItemBuilder();
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
 
-        String itemDescriptionString = node.get("itemDescription").toString();
-        ItemDescription id = ItemDescription.fromJson(itemDescriptionString);
-        temp.setItemDescription(id);
+    /**
+     * Creates an item object from the JSON object the parser is positioned at, reading the task, event, reminder,
+     * description and tags in the same pass. Leaves the parser at the end of that object.
+     * @param parser the parser positioned at the start of the JSON object that represents the item
+     * @return the item object that is created
+     * @throws IOException when the parser does not point to a JSON object in the expected format
+     * @throws NullPointerException when the JSON object does not contain a description
+     */
+    public static Item fromJson(JsonParser parser) throws IOException, NullPointerException {
+        JsonUtil.requireCurrentToken(parser, JsonToken.START_OBJECT);
+        ItemBuilder temp = new ItemBuilder();
+        ItemDescription id = null;
+        Set<Tag> tagsSet = new HashSet<>();
 
-        if (node.hasNonNull("task")) {
-            String taskString = node.get("task").toString();
-            Task t = Task.fromJson(taskString);
-            temp = temp.setTask(t);
-        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            if (parser.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
 
-        if (node.hasNonNull("event")) {
-            String eventString = node.get("event").toString();
-            Event e = Event.fromJson(eventString);
-            temp = temp.setEvent(e);
+            switch (fieldName) {
+            case "itemDescription":
+                id = ItemDescription.fromJson(parser);
+                break;
+            case "task":
+                temp = temp.setTask(Task.fromJson(parser));
+                break;
+            case "event":
+                temp = temp.setEvent(Event.fromJson(parser));
+                break;
+            case "reminder":
+                temp = temp.setReminder(Reminder.fromJson(parser));
+                break;
+            case "tags":
+                readTags(parser, tagsSet);
+                break;
+            default:
+                parser.skipChildren();
+            }
         }
 
-        if (node.hasNonNull("reminder")) {
-            String reminderString = node.get("reminder").toString();
-            Reminder r = Reminder.fromJson(reminderString);
-            temp = temp.setReminder(r);
-        }
+        temp.setItemDescription(id);
+        return temp.setTags(tagsSet).build();
+    }
 
-        Set<Tag> tagsSet = new HashSet<>();
-        JsonNode tags = node.get("tags");
-        Iterator<JsonNode> it = tags.elements();
-        while (it.hasNext()) {
-            tagsSet.add(new Tag(it.next().get("tagName").asText()));
+    /**
+     * Helper function to read the JSON array of tags the parser is positioned at into the given set.
+     */
+    private static void readTags(JsonParser parser, Set<Tag> tagsSet) throws IOException {
+        JsonUtil.requireCurrentToken(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals("tagName")) {
+                    tagsSet.add(new Tag(parser.getValueAsString()));
+                } else {
+                    parser.skipChildren();
+                }
+            }
         }
+    }
 
-        return temp.setTags(tagsSet).build();
+    /**
+     * Returns a copy of this item. The task, event, reminder, description and tags are immutable and are shared
+     * with the copy, only the set holding the tags is copied.
+     * @return a copy of the item
+     */
+    public Item deepCopy() {
+        Item fields = decode();
+        Item copy = new Item(fields.task, fields.event, fields.reminder, fields.itemDescription, fields.tags);
+        copy.hash = hash;
+        return copy;
     }
 
-    public Item deepCopy() throws IOException {
-        return Item.fromJson(this.toJson());
+    /**
+     * The fields of a lazy item, which are decoded into an item of their own the first time they are used.
+     * That item is published through a volatile field, so every thread that sees it also sees its fields.
+     */
+    private static final class LazyFields {
+        private final boolean hasTask;
+        private final boolean hasEvent;
+        private final boolean hasReminder;
+        // Only used while holding the lock, and dropped once the fields are decoded.
+        private Supplier<Item> decoder;
+        private volatile Item decoded = null;
+
+        private LazyFields(boolean hasTask, boolean hasEvent, boolean hasReminder, Supplier<Item> decoder) {
+            this.hasTask = hasTask;
+            this.hasEvent = hasEvent;
+            this.hasReminder = hasReminder;
+            this.decoder = decoder;
+        }
+
+        /**
+         * Returns the decoded item, decoding it first if no thread has done so yet.
+         */
+        private Item get() {
+            Item result = decoded;
+            if (result == null) {
+                synchronized (this) {
+                    result = decoded;
+                    if (result == null) {
+                        result = decoder.get().decode();
+                        decoded = result;
+                        decoder = null;
+                    }
+                }
+            }
+            return result;
+        }
     }
 
 }
@@ -5,7 +5,8 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.util.JsonUtil;
 
@@ -66,8 +67,32 @@ public class ItemDescription {
      * @throws IOException when the jsonString is not in JSON format
      */
     public static ItemDescription fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
+
+    /**
+     * Creates an item description object from the JSON object the parser is positioned at.
+     * Leaves the parser at the end of that object.
+     * @param parser the parser positioned at the start of the JSON object that represents the item description
+     * @return the item description object that is created
+     * @throws IOException when the parser does not point to a JSON object
+     */
+    public static ItemDescription fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireCurrentToken(parser, JsonToken.START_OBJECT);
+        String description = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals("description")) {
+                description = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
 
-        return new ItemDescription(node.get("description").asText());
+        return new ItemDescription(description);
     }
 }
@@ -6,7 +6,8 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.Objects;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.util.JsonUtil;
 
@@ -40,7 +41,7 @@ public class Reminder {
      * @return A new Reminder with the new dateTime for the reminder.
      */
     public Reminder changeDateTime(LocalDateTime dateTime) {
-        //When Reminder is implemented, the previous reminder notification should also be removed here
+        //The previous reminder is cancelled by the reminder scheduler of the model when the item is replaced
         return new Reminder(dateTime);
     }
 
@@ -79,9 +80,31 @@ public class Reminder {
      * @throws IOException when the jsonString is not in JSON format
      */
     public static Reminder fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        String dateTimeString = node.get("dateTime").asText();
-        LocalDateTime dateTime = LocalDateTime.parse(dateTimeString);
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
+
+    /**
+     * Creates a reminder object from the JSON object the parser is positioned at.
+     * Leaves the parser at the end of that object.
+     * @param parser the parser positioned at the start of the JSON object that represents the reminder
+     * @return the reminder object that is created
+     * @throws IOException when the parser does not point to a JSON object
+     */
+    public static Reminder fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireCurrentToken(parser, JsonToken.START_OBJECT);
+        LocalDateTime dateTime = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals("dateTime")) {
+                dateTime = LocalDateTime.parse(parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
 
         return new Reminder(dateTime);
     }
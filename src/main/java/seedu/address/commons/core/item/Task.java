@@ -3,7 +3,8 @@ package seedu.address.commons.core.item;
 import java.io.IOException;
 import java.util.Objects;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
@@ -103,14 +104,39 @@ public class Task {
      * @throws IllegalValueException when the JSON string contains incorrect value
      */
     public static Task fromJson(String jsonString) throws IOException {
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        final Priority p;
-        final boolean complete;
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
 
-        String priorityString = node.get("priority").asText();
-        p = Priority.valueOf(priorityString);
+    /**
+     * Creates a task object from the JSON object the parser is positioned at.
+     * Leaves the parser at the end of that object.
+     * @param parser the parser positioned at the start of the JSON object that represents the task
+     * @return the task object that is created
+     * @throws IOException when the parser does not point to a JSON object
+     * @throws IllegalArgumentException when the JSON object contains an unknown priority
+     */
+    public static Task fromJson(JsonParser parser) throws IOException {
+        JsonUtil.requireCurrentToken(parser, JsonToken.START_OBJECT);
+        Priority p = null;
+        boolean complete = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case "priority":
+                p = Priority.valueOf(parser.getValueAsString());
+                break;
+            case "complete":
+                complete = parser.getValueAsBoolean();
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
 
-        complete = node.get("complete").asBoolean();
         return new Task(p, complete);
     }
 }
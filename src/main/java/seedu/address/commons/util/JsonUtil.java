@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +12,10 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -110,6 +114,36 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Creates a streaming parser over the given JSON string. The parser has not read any token yet.
+     */
+    public static JsonParser createParser(String json) throws IOException {
+        return objectMapper.getFactory().createParser(json);
+    }
+
+    /**
+     * Creates a streaming parser that reads JSON from the given stream as it is needed, instead of reading the whole
+     * stream into memory first. The parser has not read any token yet. Closing the parser does not close the stream.
+     */
+    public static JsonParser createParser(InputStream jsonStream) throws IOException {
+        return objectMapper.getFactory().createParser(jsonStream).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+    /**
+     * Moves a parser that has not read any token yet onto its first token. Checks that the parser is positioned
+     * at the {@code expected} token.
+     * @throws JsonParseException if the current token of the parser is not the expected token.
+     */
+    public static void requireCurrentToken(JsonParser parser, JsonToken expected) throws IOException {
+        if (!parser.hasCurrentToken()) {
+            parser.nextToken();
+        }
+
+        if (parser.getCurrentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + parser.getCurrentToken());
+        }
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,274 @@
+package seedu.address.commons.util;
+
+/**
+ * An immutable hash map, held as a hash array mapped trie. Every update returns a new map that shares all but the
+ * few trie nodes on the path to the updated entry with the map it was made from, so keeping old versions of the map
+ * around is cheap. Lookups and updates visit at most seven 32-way nodes.
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(BitmapNode.EMPTY, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value for the key, or null if the map has no such key.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        return (V) root.get(key, key.hashCode(), 0);
+    }
+
+    public boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with the key set to the value, replacing any value the key had.
+     * @param value cannot be null.
+     */
+    public PersistentHashMap<K, V> put(K key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        boolean[] isAdded = new boolean[1];
+        Node newRoot = root.put(key, key.hashCode(), value, 0, isAdded);
+        return newRoot == root ? this : new PersistentHashMap<>(newRoot, isAdded[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the key. This map is returned if it does not have the key.
+     */
+    public PersistentHashMap<K, V> remove(K key) {
+        Node newRoot = root.remove(key, key.hashCode(), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot == null ? BitmapNode.EMPTY : newRoot, size - 1);
+    }
+
+    private static int bitFor(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Returns a copy of the array with the pair at the index replaced.
+     */
+    private static Object[] replacePair(Object[] array, int index, Object key, Object value) {
+        Object[] newArray = array.clone();
+        newArray[index] = key;
+        newArray[index + 1] = value;
+        return newArray;
+    }
+
+    /**
+     * Returns a copy of the array with a pair inserted at the index.
+     */
+    private static Object[] insertPair(Object[] array, int index, Object key, Object value) {
+        Object[] newArray = new Object[array.length + 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        newArray[index] = key;
+        newArray[index + 1] = value;
+        System.arraycopy(array, index, newArray, index + 2, array.length - index);
+        return newArray;
+    }
+
+    /**
+     * Returns a copy of the array without the pair at the index.
+     */
+    private static Object[] removePair(Object[] array, int index) {
+        Object[] newArray = new Object[array.length - 2];
+        System.arraycopy(array, 0, newArray, 0, index);
+        System.arraycopy(array, index + 2, newArray, index, array.length - index - 2);
+        return newArray;
+    }
+
+    /**
+     * A node of the trie. Nodes are never changed once built, updates return new nodes instead.
+     */
+    private interface Node {
+        Object get(Object key, int hash, int shift);
+
+        /**
+         * Returns the node with the key set to the value, or this node if the key already has the value.
+         */
+        Node put(Object key, int hash, Object value, int shift, boolean[] isAdded);
+
+        /**
+         * Returns the node without the key, this node if it does not have the key, or null if it becomes empty.
+         */
+        Node remove(Object key, int hash, int shift);
+    }
+
+    /**
+     * A node with up to 32 children, one for each value of the next five bits of the hash. Only the children that
+     * are present are stored. Each child is either an entry, stored as {key, value}, or a subnode, stored as
+     * {null, node}.
+     */
+    private static final class BitmapNode implements Node {
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int indexOf(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        public Object get(Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int index = indexOf(bit);
+            Object keyOrNull = array[index];
+            Object valueOrNode = array[index + 1];
+            if (keyOrNull == null) {
+                return ((Node) valueOrNode).get(key, hash, shift + BITS);
+            }
+            return key.equals(keyOrNull) ? valueOrNode : null;
+        }
+
+        @Override
+        public Node put(Object key, int hash, Object value, int shift, boolean[] isAdded) {
+            int bit = bitFor(hash, shift);
+            int index = indexOf(bit);
+            if ((bitmap & bit) == 0) {
+                isAdded[0] = true;
+                return new BitmapNode(bitmap | bit, insertPair(array, index, key, value));
+            }
+
+            Object keyOrNull = array[index];
+            Object valueOrNode = array[index + 1];
+            if (keyOrNull == null) {
+                Node node = (Node) valueOrNode;
+                Node newNode = node.put(key, hash, value, shift + BITS, isAdded);
+                return newNode == node ? this : new BitmapNode(bitmap, replacePair(array, index, null, newNode));
+            } else if (key.equals(keyOrNull)) {
+                return value == valueOrNode ? this : new BitmapNode(bitmap, replacePair(array, index, key, value));
+            }
+
+            isAdded[0] = true;
+            Node newNode = createNode(keyOrNull, valueOrNode, key, hash, value, shift + BITS);
+            return new BitmapNode(bitmap, replacePair(array, index, null, newNode));
+        }
+
+        @Override
+        public Node remove(Object key, int hash, int shift) {
+            int bit = bitFor(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+
+            int index = indexOf(bit);
+            Object keyOrNull = array[index];
+            Object valueOrNode = array[index + 1];
+            if (keyOrNull == null) {
+                Node node = (Node) valueOrNode;
+                Node newNode = node.remove(key, hash, shift + BITS);
+                if (newNode == node) {
+                    return this;
+                } else if (newNode != null) {
+                    return new BitmapNode(bitmap, replacePair(array, index, null, newNode));
+                }
+            } else if (!key.equals(keyOrNull)) {
+                return this;
+            }
+
+            return bitmap == bit ? null : new BitmapNode(bitmap ^ bit, removePair(array, index));
+        }
+
+        /**
+         * Creates the node holding two entries that clash at the previous level of the trie.
+         */
+        private static Node createNode(Object key1, Object value1, Object key2, int hash2, Object value2,
+                                       int shift) {
+            int hash1 = key1.hashCode();
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+            }
+            boolean[] isAdded = new boolean[1];
+            return EMPTY.put(key1, hash1, value1, shift, isAdded).put(key2, hash2, value2, shift, isAdded);
+        }
+    }
+
+    /**
+     * A node holding the entries whose keys have the same hash code, stored as {key, value, key, value, ...}.
+     */
+    private static final class CollisionNode implements Node {
+        private final int hash;
+        private final Object[] array;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int indexOf(Object key) {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object get(Object key, int hash, int shift) {
+            int index = indexOf(key);
+            return index < 0 ? null : array[index + 1];
+        }
+
+        @Override
+        public Node put(Object key, int hash, Object value, int shift, boolean[] isAdded) {
+            if (hash != this.hash) {
+                // Push this node one level down so the new entry can sit next to it.
+                return new BitmapNode(bitFor(this.hash, shift), new Object[] {null, this})
+                        .put(key, hash, value, shift, isAdded);
+            }
+
+            int index = indexOf(key);
+            if (index >= 0) {
+                return value == array[index + 1] ? this : new CollisionNode(hash, replacePair(array, index, key, value));
+            }
+            isAdded[0] = true;
+            return new CollisionNode(hash, insertPair(array, array.length, key, value));
+        }
+
+        @Override
+        public Node remove(Object key, int hash, int shift) {
+            int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            return array.length == 2 ? null : new CollisionNode(hash, removePair(array, index));
+        }
+    }
+}
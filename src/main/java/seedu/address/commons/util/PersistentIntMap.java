@@ -0,0 +1,302 @@
+package seedu.address.commons.util;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * An immutable map from int keys to values, ordered by key.
+ * Every update returns a new map that shares all but O(log n) of its nodes with the map it was made from,
+ * so keeping old versions of the map around is cheap.
+ * Values can also be looked up by their position in key order in O(log n) time.
+ */
+public final class PersistentIntMap<V> implements Iterable<V> {
+
+    private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(null);
+
+    private final Node<V> root;
+
+    private PersistentIntMap(Node<V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentIntMap<V> empty() {
+        return (PersistentIntMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns a map holding the values under the keys 0 to {@code values.size() - 1}, in order.
+     * The tree is built already balanced, in O(n) time rather than the O(n log n) of adding the values one by one.
+     * @param values cannot contain null.
+     */
+    public static <V> PersistentIntMap<V> ofSequence(List<V> values) {
+        return new PersistentIntMap<>(build(null, values, 0, values.size()));
+    }
+
+    /**
+     * Returns a map holding each value under the key at the same position, in O(n) time as for
+     * {@link #ofSequence(List)}.
+     * @param keys the keys, in increasing order.
+     * @param values the values, as many as there are keys. Cannot contain null.
+     * @throws IllegalArgumentException if the keys are not in increasing order or there are not as many values.
+     */
+    public static <V> PersistentIntMap<V> ofSorted(int[] keys, List<V> values) {
+        if (keys.length != values.size()) {
+            throw new IllegalArgumentException("There are " + keys.length + " keys for " + values.size() + " values");
+        }
+        for (int i = 1; i < keys.length; i++) {
+            if (keys[i - 1] >= keys[i]) {
+                throw new IllegalArgumentException("Keys are not in increasing order at index " + i);
+            }
+        }
+        return new PersistentIntMap<>(build(keys, values, 0, keys.length));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value for the key, or null if the map has no such key.
+     */
+    public V get(int key) {
+        Node<V> node = root;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+        return null;
+    }
+
+    public boolean containsKey(int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns a map with the key set to the value, replacing any value the key had.
+     * @param value cannot be null.
+     */
+    public PersistentIntMap<V> put(int key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        return new PersistentIntMap<>(put(root, key, value));
+    }
+
+    /**
+     * Returns a map without the key. This map is returned if it does not have the key.
+     */
+    public PersistentIntMap<V> remove(int key) {
+        if (!containsKey(key)) {
+            return this;
+        }
+        return new PersistentIntMap<>(remove(root, key));
+    }
+
+    /**
+     * Returns the value at the index, counting the values in key order.
+     * @throws IndexOutOfBoundsException if the index is not between 0 and the size of the map.
+     */
+    public V getAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node<V> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of the key in key order, or -1 if the map does not have the key.
+     */
+    public int indexOfKey(int key) {
+        Node<V> node = root;
+        int index = 0;
+        while (node != null) {
+            if (key < node.key) {
+                node = node.left;
+            } else if (key > node.key) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Performs the action on every value together with its key, in key order.
+     */
+    public void forEachEntry(ObjIntConsumer<? super V> action) {
+        forEachEntry(root, action);
+    }
+
+    /**
+     * Returns an iterator over the values in key order.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<V>() {
+            private final ArrayDeque<Node<V>> path = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public V next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<V> node = path.pop();
+                pushLeft(node.right);
+                return node.value;
+            }
+
+            private void pushLeft(Node<V> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static <V> void forEachEntry(Node<V> node, ObjIntConsumer<? super V> action) {
+        for (; node != null; node = node.right) {
+            forEachEntry(node.left, action);
+            action.accept(node.value, node.key);
+        }
+    }
+
+    /**
+     * Builds a perfectly balanced tree holding the values from index {@code from} up to {@code to}, keyed by the
+     * key at the same index, or by the index itself if there are no keys.
+     */
+    private static <V> Node<V> build(int[] keys, List<V> values, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        V value = values.get(mid);
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        return new Node<>(keys == null ? mid : keys[mid], value, build(keys, values, from, mid),
+                build(keys, values, mid + 1, to));
+    }
+
+    private static <V> Node<V> put(Node<V> node, int key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        } else if (key < node.key) {
+            return balance(node.key, node.value, put(node.left, key, value), node.right);
+        } else if (key > node.key) {
+            return balance(node.key, node.value, node.left, put(node.right, key, value));
+        } else {
+            return new Node<>(key, value, node.left, node.right);
+        }
+    }
+
+    /**
+     * Removes the key, which must be in the tree rooted at the node.
+     */
+    private static <V> Node<V> remove(Node<V> node, int key) {
+        if (key < node.key) {
+            return balance(node.key, node.value, remove(node.left, key), node.right);
+        } else if (key > node.key) {
+            return balance(node.key, node.value, node.left, remove(node.right, key));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.key, successor.value, node.left, remove(node.right, successor.key));
+        }
+    }
+
+    /**
+     * Builds a node from the given parts, rotating it if the heights of the subtrees differ by more than one.
+     */
+    private static <V> Node<V> balance(int key, V value, Node<V> left, Node<V> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+            }
+            Node<V> pivot = left.right;
+            return new Node<>(pivot.key, pivot.value, new Node<>(left.key, left.value, left.left, pivot.left),
+                    new Node<>(key, value, pivot.right, right));
+        } else if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+            }
+            Node<V> pivot = right.left;
+            return new Node<>(pivot.key, pivot.value, new Node<>(key, value, left, pivot.left),
+                    new Node<>(right.key, right.value, pivot.right, right.right));
+        } else {
+            return new Node<>(key, value, left, right);
+        }
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the AVL tree holding the map. Nodes are never changed once built.
+     */
+    private static final class Node<V> {
+        private final int key;
+        private final V value;
+        private final Node<V> left;
+        private final Node<V> right;
+        private final int height;
+        private final int size;
+
+        Node(int key, V value, Node<V> left, Node<V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+}
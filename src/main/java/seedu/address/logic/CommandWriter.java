@@ -0,0 +1,160 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandProgress;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ItemStorage;
+
+/**
+ * Runs the commands given from any thread one at a time, on a single writer thread, as the model is not safe to
+ * change from several threads at once.
+ * After each command, a snapshot of the items is published. The snapshot can be read from any thread without waiting
+ * for the commands being run, and always holds the items as they were between two commands. It is cheap to take, as
+ * the item storage is held in persistent maps.
+ */
+public class CommandWriter {
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while waiting for the command to run";
+    public static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandWriter.class);
+
+    private final Logic logic;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final List<Runnable> afterCommandListeners = new CopyOnWriteArrayList<>();
+    private volatile ItemStorage snapshot;
+
+    public CommandWriter(Logic logic) {
+        requireNonNull(logic);
+        this.logic = logic;
+        this.snapshot = logic.getItemStorage().deepCopy();
+    }
+
+    /**
+     * Runs the command on the writer thread, after the commands given before it, and waits for its result.
+     * @see Logic#execute(String)
+     * @throws CommandException If an error occurs during command execution, or the wait is interrupted.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        Future<CommandResult> result = submit(commandText, CommandProgress.none());
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
+    /**
+     * Runs the command on the writer thread, after the commands given before it, without waiting for it.
+     * The snapshot is published and the result is completed from the outcome of the command alone, and only then
+     * are the listeners told that the command has run, on the writer thread. A command cancelled before its turn
+     * comes is not run, and fails with a {@link CommandException}.
+     * @see Logic#execute(String, CommandProgress)
+     */
+    public CompletableFuture<CommandResult> submit(String commandText, CommandProgress progress) {
+        requireNonNull(commandText);
+        requireNonNull(progress);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                CommandResult commandResult;
+                try {
+                    commandResult = logic.execute(commandText, progress);
+                } finally {
+                    snapshot = logic.getItemStorage().deepCopy();
+                }
+                result.complete(commandResult);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+            runAfterCommandListeners();
+        });
+        return result;
+    }
+
+    /**
+     * Runs each after-command listener in turn. A listener that fails is logged, and does not stop the others, as
+     * the command it follows has already run.
+     */
+    private void runAfterCommandListeners() {
+        for (Runnable listener : afterCommandListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                logger.warning("After-command listener failed " + StringUtil.getDetails(e));
+            }
+        }
+    }
+
+    /**
+     * Reads from the logic on the writer thread, after the commands given before it, without waiting for it.
+     * This is for the reads that are not served by the snapshot, which must not change the model.
+     */
+    public <T> CompletableFuture<T> query(Supplier<T> read) {
+        requireNonNull(read);
+        return CompletableFuture.supplyAsync(read, writer);
+    }
+
+    /**
+     * Adds a listener that is run on the writer thread after each command, whether or not the command succeeded.
+     * The listener may read the logic, as no command runs until it has returned.
+     */
+    public void addAfterCommandListener(Runnable listener) {
+        requireNonNull(listener);
+        afterCommandListeners.add(listener);
+    }
+
+    /**
+     * Returns the items as they were after the last command that has finished. The snapshot must not be changed.
+     */
+    public ItemStorage getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Stops taking commands, and waits for the commands already given to finish.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
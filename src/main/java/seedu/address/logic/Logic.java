@@ -1,8 +1,14 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.item.Item;
+import seedu.address.logic.commands.CommandProgress;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -22,6 +28,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command and returns the result, reporting the progress of the command as it runs.
+     * @param commandText The command as entered by the user.
+     * @param progress The progress to report to, through which the command can also be cancelled.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution, or the command is cancelled.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    CommandResult execute(String commandText, CommandProgress progress) throws CommandException, ParseException;
+
     /**
      * Returns the AddressBook.
      *
@@ -51,4 +67,18 @@ public interface Logic {
 
     //ObservableList<Person> getFilteredPersonList();
     VisualizeList getVisualList();
+
+    /**
+     * Returns the events that take place at some time from {@code start} up to {@code end}.
+     *
+     * @see seedu.address.model.ItemModel#getEventsBetween(LocalDateTime, LocalDateTime)
+     */
+    List<Item> getEventsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Starts handing the items of the reminders that fall due to the listener, through the executor.
+     *
+     * @see seedu.address.model.ItemModel#startReminders(Executor, Consumer)
+     */
+    void startReminders(Executor executor, Consumer<Item> listener);
 }
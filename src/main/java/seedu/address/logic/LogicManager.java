@@ -2,11 +2,17 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Item;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandProgress;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
@@ -35,6 +41,12 @@ public class LogicManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return execute(commandText, CommandProgress.none());
+    }
+
+    @Override
+    public CommandResult execute(String commandText, CommandProgress progress)
+            throws CommandException, ParseException {
 
         //Logging
         logger.info("----------------[USER COMMAND][" + commandText + "]");
@@ -42,7 +54,7 @@ public class LogicManager implements Logic {
         CommandResult commandResult;
         //Parse user input from String to a Command
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        commandResult = command.execute(model, progress);
 
         try {
             storage.saveItemStorage(model.getItemStorage());
@@ -71,6 +83,11 @@ public class LogicManager implements Logic {
         return model.getVisualList();
     }
 
+    @Override
+    public List<Item> getEventsBetween(LocalDateTime start, LocalDateTime end) {
+        return model.getEventsBetween(start, end);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getItemStorageFilePath();
@@ -85,4 +102,9 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void startReminders(Executor executor, Consumer<Item> listener) {
+        model.startReminders(executor, listener);
+    }
 }
@@ -6,6 +6,9 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMINDER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.core.item.Item;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ItemModel;
@@ -27,6 +30,9 @@ public class AddCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "New Item added: %1$s";
     public static final String MESSAGE_DUPLICATE_ITEM = "This item already exists in the List";
+    public static final String MESSAGE_CONFLICTING_EVENTS = "\nWarning: this event takes place at the same time as "
+            + "%1$d other event(s): %2$s";
+    public static final int MAX_CONFLICTING_EVENTS_SHOWN = 5;
 
     private final Item toAdd;
 
@@ -49,7 +55,20 @@ public class AddCommand extends Command {
         */
 
         model.addItem(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        String feedback = String.format(MESSAGE_SUCCESS, toAdd);
+
+        List<Item> conflictingEvents = model.getConflictingEvents(toAdd);
+        if (!conflictingEvents.isEmpty()) {
+            String shown = conflictingEvents.stream()
+                    .limit(MAX_CONFLICTING_EVENTS_SHOWN)
+                    .map(item -> item.getItemDescription().getDescription())
+                    .collect(Collectors.joining(", "));
+            if (conflictingEvents.size() > MAX_CONFLICTING_EVENTS_SHOWN) {
+                shown += ", ...";
+            }
+            feedback += String.format(MESSAGE_CONFLICTING_EVENTS, conflictingEvents.size(), shown);
+        }
+        return new CommandResult(feedback);
     }
 
     @Override
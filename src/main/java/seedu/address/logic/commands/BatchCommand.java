@@ -0,0 +1,161 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ItemModel;
+
+/**
+ * Runs the commands in a script file, one per line, as one change to the items.
+ * Every line is parsed before any is run. If a line cannot be parsed or fails to run, none of the script takes
+ * effect. The items are saved once, after the whole script has run, and the script is undone as one command.
+ * The script reports its progress after each line it runs, and can be cancelled between lines, which undoes the
+ * lines already run.
+ */
+public class BatchCommand extends Command {
+
+    public static final String COMMAND_WORD = "batch";
+    public static final String COMMENT_PREFIX = "#";
+    public static final int MAX_ERRORS_SHOWN = 10;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line. "
+            + "Blank lines, and lines starting with " + COMMENT_PREFIX + ", are skipped.\n"
+            + "Parameters: FILE PATH\n"
+            + "Example: " + COMMAND_WORD + " data/script.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s.";
+    public static final String MESSAGE_READ_FAILED = "Could not read the script %1$s: %2$s";
+    public static final String MESSAGE_INVALID_SCRIPT = "The script was not run, as %1$d line(s) are not valid:";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "%1$s cannot be used in a script";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_SCRIPT_ROLLED_BACK = "\nNone of the script was kept.";
+
+    private final Path scriptPath;
+
+    public BatchCommand(Path scriptPath) {
+        requireNonNull(scriptPath);
+        this.scriptPath = scriptPath;
+    }
+
+    @Override
+    public CommandResult execute(ItemModel model) throws CommandException {
+        return execute(model, CommandProgress.none());
+    }
+
+    @Override
+    public CommandResult execute(ItemModel model, CommandProgress progress) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(progress);
+        List<ScriptLine> script = parseScript(readScript());
+        progress.checkCancelled();
+
+        model.startBatch();
+        boolean isCommitted = false;
+        try {
+            for (int i = 0; i < script.size(); i++) {
+                ScriptLine line = script.get(i);
+                try {
+                    progress.checkCancelled();
+                    line.command.execute(model);
+                } catch (CommandException e) {
+                    throw new CommandException(String.format(MESSAGE_LINE_ERROR, line.lineNumber, e.getMessage())
+                            + MESSAGE_SCRIPT_ROLLED_BACK, e);
+                }
+                progress.update(i + 1, script.size());
+            }
+            model.commitBatch();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollBackBatch();
+            }
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, script.size(), scriptPath));
+    }
+
+    private List<String> readScript() throws CommandException {
+        try {
+            return Files.readAllLines(scriptPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILED, scriptPath, e), e);
+        }
+    }
+
+    /**
+     * Parses every line of the script into a command, skipping blank lines and comments.
+     * @throws CommandException listing the lines that are not valid, if there are any.
+     */
+    private static List<ScriptLine> parseScript(List<String> lines) throws CommandException {
+        AddressBookParser parser = new AddressBookParser();
+        List<ScriptLine> script = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                Command command = parser.parseCommand(line);
+                if (isAllowedInScript(command)) {
+                    script.add(new ScriptLine(lineNumber, command));
+                } else {
+                    errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber,
+                            String.format(MESSAGE_COMMAND_NOT_ALLOWED, line.split("\\s+", 2)[0])));
+                }
+            } catch (ParseException e) {
+                errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder(String.format(MESSAGE_INVALID_SCRIPT, errors.size()));
+            errors.stream().limit(MAX_ERRORS_SHOWN).forEach(error -> message.append('\n').append(error));
+            if (errors.size() > MAX_ERRORS_SHOWN) {
+                message.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_ERRORS_SHOWN));
+            }
+            throw new CommandException(message.toString());
+        }
+        return script;
+    }
+
+    /**
+     * Returns true if the command can be run as part of a script. Undoing and redoing would reach past the start
+     * of the script, and scripts are not nested.
+     */
+    private static boolean isAllowedInScript(Command command) {
+        return !(command instanceof UndoCommand || command instanceof RedoCommand || command instanceof BatchCommand);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof BatchCommand // instanceof handles nulls
+                && scriptPath.equals(((BatchCommand) other).scriptPath)); // state check
+    }
+
+    /**
+     * A command of the script, with the number of the line it is on.
+     */
+    private static class ScriptLine {
+        private final int lineNumber;
+        private final Command command;
+
+        ScriptLine(int lineNumber, Command command) {
+            this.lineNumber = lineNumber;
+            this.command = command;
+        }
+    }
+}
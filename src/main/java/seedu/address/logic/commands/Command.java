@@ -17,4 +17,18 @@ public abstract class Command {
      */
     public abstract CommandResult execute(ItemModel model) throws CommandException;
 
+    /**
+     * Executes the command as {@link #execute(ItemModel)} does, unless it has been cancelled before it starts.
+     * Commands that take a while override this to report their progress, and to stop part way when cancelled.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param progress the progress to report to, and to check for being cancelled.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution, or the command is cancelled.
+     */
+    public CommandResult execute(ItemModel model, CommandProgress progress) throws CommandException {
+        progress.checkCancelled();
+        return execute(model);
+    }
+
 }
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * The progress of a command being run, and the way to cancel it.
+ * A command that takes a while, such as a script, reports how far it has got, and checks now and then whether it
+ * has been cancelled, stopping with a {@link CommandException} if it has. A cancelled command that has not started
+ * yet is not run at all. Cancelling is only a request, as a command that has started only stops where it checks.
+ * The progress is reported on the thread running the command, and may be read and cancelled from any thread.
+ */
+public class CommandProgress {
+    public static final String MESSAGE_CANCELLED = "The command was cancelled.";
+
+    private final Runnable listener;
+    private volatile int done = 0;
+    private volatile int total = 0;
+    private volatile boolean isCancelled = false;
+
+    /**
+     * Creates the progress of a command that has not started yet.
+     * @param listener called on the thread running the command each time the progress is reported
+     */
+    public CommandProgress(Runnable listener) {
+        requireNonNull(listener);
+        this.listener = listener;
+    }
+
+    /**
+     * Returns a progress that no one is told of, for a command that is run directly.
+     */
+    public static CommandProgress none() {
+        return new CommandProgress(() -> { });
+    }
+
+    /**
+     * Reports that the command has done {@code done} out of {@code total} steps.
+     */
+    public void update(int done, int total) {
+        this.done = done;
+        this.total = total;
+        listener.run();
+    }
+
+    /**
+     * Returns the fraction of the command that is done, or a negative value if the command has not reported how far it
+     * has got.
+     */
+    public double getFraction() {
+        int currentTotal = total;
+        return currentTotal <= 0 ? -1 : (double) done / currentTotal;
+    }
+
+    public int getDone() {
+        return done;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Asks for the command to stop.
+     */
+    public void cancel() {
+        isCancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return isCancelled;
+    }
+
+    /**
+     * Stops the command if it has been cancelled.
+     * @throws CommandException if the command has been cancelled.
+     */
+    public void checkCancelled() throws CommandException {
+        if (isCancelled) {
+            throw new CommandException(MESSAGE_CANCELLED);
+        }
+    }
+}
@@ -82,6 +82,10 @@ public class EditCommand extends Command {
         Item oldItem = lastShownList.get(index.getZeroBased());
         Item editedItem = createEditedItem(oldItem, editItemDescriptor, lastShownList);
 
+        if (!oldItem.equals(editedItem) && model.getItemStorage().contains(editedItem)) {
+            throw new CommandException(MESSAGE_DUPLICATE_ITEM);
+        }
+
         model.replaceItem(oldItem, editedItem);
         //model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_ITEM_SUCCESS, editedItem));
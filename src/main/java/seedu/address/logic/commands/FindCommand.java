@@ -1,42 +1,90 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntConsumer;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ItemModel;
 
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all items in the list being shown whose description or tags contain any of the argument keywords.
+ * Keyword matching is case insensitive. A fuzzy search matches the keywords against whole words instead, allowing for
+ * words that are not complete and for typos, and lists the best matches first.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
-            + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all items in the current list whose "
+            + "descriptions or tags contain any of the specified keywords (case-insensitive) and displays them as a "
+            + "list with index numbers.\n"
+            + "With " + PREFIX_FUZZY + ", finds the items with words that start with or are close to the keywords "
+            + "instead, best matches first.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]... [" + PREFIX_FUZZY + "]\n"
+            + "Example: " + COMMAND_WORD + " homework exam\n"
+            + "Example: " + COMMAND_WORD + " homewrk " + PREFIX_FUZZY;
 
     private final String[] searchString;
+    private final boolean isFuzzy;
 
     public FindCommand(String[] searchString) {
+        this(searchString, false);
+    }
+
+    public FindCommand(String[] searchString, boolean isFuzzy) {
         this.searchString = searchString;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(ItemModel model) {
         requireNonNull(model);
-        model.findItem(searchString);
+        search(model, searched -> { });
         return new CommandResult(
                 String.format(Messages.MESSAGE_ITEM_LISTED_OVERVIEW, model.getVisualList().size()));
     }
 
+    /**
+     * Executes the command, reporting each keyword searched for as a step, and stopping after the keyword being
+     * searched for if the command is cancelled. A cancelled search leaves the list being shown as it was.
+     */
+    @Override
+    public CommandResult execute(ItemModel model, CommandProgress progress) throws CommandException {
+        requireNonNull(model);
+        progress.checkCancelled();
+        try {
+            search(model, searched -> {
+                if (progress.isCancelled()) {
+                    throw new CancellationException();
+                }
+                progress.update(searched, searchString.length);
+            });
+        } catch (CancellationException e) {
+            throw new CommandException(CommandProgress.MESSAGE_CANCELLED);
+        }
+        return new CommandResult(
+                String.format(Messages.MESSAGE_ITEM_LISTED_OVERVIEW, model.getVisualList().size()));
+    }
+
+    private void search(ItemModel model, IntConsumer searchedListener) {
+        if (isFuzzy) {
+            model.fuzzyFindItem(searchString, searchedListener);
+        } else {
+            model.findItem(searchString, searchedListener);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && searchString.equals(((FindCommand) other).searchString)); // state check
+                && Arrays.equals(searchString, ((FindCommand) other).searchString) // state check
+                && isFuzzy == ((FindCommand) other).isFuzzy);
     }
 }
@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATETIME;
+
+import java.time.LocalDateTime;
+
+import seedu.address.model.ItemModel;
+
+/**
+ * Lists the events that take place at some time within a range of time, in the order they start.
+ */
+public class RangeCommand extends Command {
+
+    public static final String COMMAND_WORD = "range";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the events that take place at some time from START up to END, in the order they start.\n"
+            + "Parameters: " + PREFIX_DATETIME + " START " + PREFIX_END_DATETIME + " END\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DATETIME + " 25/09/2019 0800 "
+            + PREFIX_END_DATETIME + " 25/09/2019 1800";
+
+    public static final String MESSAGE_SUCCESS = "%1$d events take place from %2$s to %3$s";
+
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+
+    /**
+     * Creates a RangeCommand to list the events from {@code start} up to {@code end}.
+     */
+    public RangeCommand(LocalDateTime start, LocalDateTime end) {
+        requireNonNull(start);
+        requireNonNull(end);
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CommandResult execute(ItemModel model) {
+        requireNonNull(model);
+        int found = model.findEventsBetween(start, end).size();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, found, start, end), ShowCommand.EVENT_VIEW_COMMAND);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RangeCommand // instanceof handles nulls
+                && start.equals(((RangeCommand) other).start)
+                && end.equals(((RangeCommand) other).end)); // state check
+    }
+}
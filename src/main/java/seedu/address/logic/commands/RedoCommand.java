@@ -0,0 +1,53 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ItemModel;
+
+/**
+ * Redoes the last undone commands.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+    public static final int MAX_COUNT = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the latest undone commands.\n"
+            + "Parameters: [NUMBER OF COMMANDS] (must be a positive integer, at most " + MAX_COUNT + ")\n"
+            + "Example: " + COMMAND_WORD + " 2";
+
+    public static final String MESSAGE_SUCCESS = "Redid %1$d command(s).";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There is no undone command to redo.";
+
+    private final int count;
+
+    public RedoCommand() {
+        this(1);
+    }
+
+    public RedoCommand(int count) {
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(ItemModel model) throws CommandException {
+        requireNonNull(model);
+
+        int redone = 0;
+        while (redone < count && model.redo()) {
+            redone++;
+        }
+
+        if (redone == 0) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, redone));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RedoCommand // instanceof handles nulls
+                && count == ((RedoCommand) other).count); // state check
+    }
+}
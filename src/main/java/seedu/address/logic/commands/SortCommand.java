@@ -6,6 +6,9 @@ import seedu.address.model.ItemModel;
 
 /**
  * Sort the current list.
+ * Once sorted, the task, event and reminder lists are kept in order as items change, so sorting one of them again
+ * only shows it. Otherwise the list is sorted in a single pass, so sorting is not reported in steps, and can only be
+ * cancelled before it starts.
  */
 public class SortCommand extends Command {
 
@@ -1,16 +1,53 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.ItemModel;
 
 /**
- * Undoes last entered command
+ * Undoes the last entered commands that changed the items.
  */
 public class UndoCommand extends Command {
     public static final String COMMAND_WORD = "undo";
+    public static final int MAX_COUNT = 20;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the latest commands that changed the items.\n"
+            + "Parameters: [NUMBER OF COMMANDS] (must be a positive integer, at most " + MAX_COUNT + ")\n"
+            + "Example: " + COMMAND_WORD + " 2";
+
+    public static final String MESSAGE_SUCCESS = "Undid %1$d command(s).";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There is no command to undo.";
+
+    private final int count;
+
+    public UndoCommand() {
+        this(1);
+    }
+
+    public UndoCommand(int count) {
+        this.count = count;
+    }
 
     @Override
     public CommandResult execute(ItemModel model) throws CommandException {
-        return new CommandResult("Hello from undo");
+        requireNonNull(model);
+
+        int undone = 0;
+        while (undone < count && model.undo()) {
+            undone++;
+        }
+
+        if (undone == 0) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, undone));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UndoCommand // instanceof handles nulls
+                && count == ((UndoCommand) other).count); // state check
     }
 }
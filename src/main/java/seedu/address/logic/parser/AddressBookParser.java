@@ -3,27 +3,30 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-//import seedu.address.logic.commands.ClearCommand;
-//import seedu.address.logic.commands.FindCommand;
-
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
-//import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.RangeCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ShowCommand;
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.commands.UndoCommand;
-//import seedu.address.logic.commands.ShowCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The parsers of the commands hold no state, so one of each is made up front and looked up by the command word.
  */
 public class AddressBookParser {
 
@@ -33,6 +36,11 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT =
             Pattern.compile("(?<commandWord>\\S+)(?<description>[^-]*)(?<flags>.*)");
 
+    /**
+     * The parser of each command, by its command word.
+     */
+    private static final Map<String, Parser<? extends Command>> PARSERS = createParsers();
+
     /**
      * Parses user input into command for execution.
      *
@@ -50,47 +58,36 @@ public class AddressBookParser {
         final String description = matcher.group("description");
         final String flags = " " + matcher.group("flags");
 
-        switch (commandWord) {
-
-        case "task":
-            return new AddTaskCommandParser().parse(description, flags);
-
-        case "event":
-            return new AddEventCommandParser().parse(description, flags);
-
-        case "reminder":
-            return new AddReminderCommandParser().parse(description, flags);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(description, flags);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(description, flags);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(description, flags);
-
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case ShowCommand.COMMAND_WORD:
-            return new ShowCommandParser().parse(description, flags);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-        /*
-        case ShowCommand.COMMAND_WORD:
-            return new ShowCommand(description);
-        */
-        default:
+        Parser<? extends Command> parser = PARSERS.get(commandWord);
+        if (parser == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(description, flags);
     }
 
+    /**
+     * Returns the command words that are recognised.
+     */
+    public static Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(PARSERS.keySet());
+    }
+
+    private static Map<String, Parser<? extends Command>> createParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put("task", new AddTaskCommandParser());
+        parsers.put("event", new AddEventCommandParser());
+        parsers.put("reminder", new AddReminderCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, (description, flags) -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(UndoCommand.COMMAND_WORD, new UndoCommandParser());
+        parsers.put(RedoCommand.COMMAND_WORD, new RedoCommandParser());
+        parsers.put(ShowCommand.COMMAND_WORD, new ShowCommandParser());
+        parsers.put(SortCommand.COMMAND_WORD, (description, flags) -> new SortCommand());
+        parsers.put(RangeCommand.COMMAND_WORD, new RangeCommandParser());
+        parsers.put(BatchCommand.COMMAND_WORD, new BatchCommandParser());
+        parsers.put(ExitCommand.COMMAND_WORD, (description, flags) -> new ExitCommand());
+        return parsers;
+    }
 }
@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Paths;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * The path of the script is taken as it is, so a hyphen in it is not read as the start of a flag.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public BatchCommand parse(String description, String flags) throws ParseException {
+        // The flags are given with a space in front of them, which is not part of the path.
+        String path = (description + flags.substring(1)).trim();
+        if (path.isEmpty() || !FileUtil.isValidPath(path)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+        return new BatchCommand(Paths.get(path));
+    }
+
+}
@@ -15,12 +15,14 @@ public class CliSyntax {
 
     /*ELISA prefix definitions */
     public static final Prefix PREFIX_DATETIME = new Prefix("-d");
+    public static final Prefix PREFIX_END_DATETIME = new Prefix("-e");
     public static final Prefix PREFIX_REMINDER = new Prefix("-r");
     public static final Prefix PREFIX_PRIORITY = new Prefix("-p");
     public static final Prefix PREFIX_TAG = new Prefix("-t");
     public static final Prefix PREFIX_TASK_DESCRIPTION = new Prefix("-td");
     public static final Prefix PREFIX_EVENT_DESCRIPTION = new Prefix("-ed");
     public static final Prefix PREFIX_REMINDER_DESCRIPTION = new Prefix("-rd");
+    public static final Prefix PREFIX_FUZZY = new Prefix("-f");
 
 
 }
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -12,10 +13,10 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
-     * and returns a FindCommand object for execution.
+     * and returns a FindCommand object for execution. The search is fuzzy if the {@code -f} flag is given.
      * @throws ParseException if the user input does not conform the expected format
      */
-    public FindCommand parse(String keywords, String empty) throws ParseException {
+    public FindCommand parse(String keywords, String flags) throws ParseException {
 
         String trimmedArgs = keywords.trim();
         if (trimmedArgs.isEmpty()) {
@@ -24,8 +25,9 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] keywordArray = trimmedArgs.split("\\s+");
+        boolean isFuzzy = ArgumentTokenizer.tokenize(flags, PREFIX_FUZZY).getValue(PREFIX_FUZZY).isPresent();
 
-        return new FindCommand(keywordArray);
+        return new FindCommand(keywordArray, isFuzzy);
     }
 
 }
@@ -2,9 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
-import java.time.LocalDate;
+import java.text.ParsePosition;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Collection;
@@ -28,6 +27,14 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
 
+    /**
+     * The formats a date and time can be given in, in the order they are tried.
+     */
+    private static final DateTimeFormatter[] DATE_TIME_FORMATS = {
+        DateTimeFormatter.ISO_LOCAL_DATE_TIME,
+        DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm")
+    };
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -85,6 +92,23 @@ public class ParserUtil {
         return Optional.of(newEvent);
     }
 
+    /**
+     * Parses the {@code dateTime} into a {@code LocalDateTime}, accepting the same formats as the time of an event.
+     * @param dateTime the date and time given after the prefix
+     * @param prefix the prefix the date and time was given with, for the error message
+     * @throws ParseException if the format of the date and time is incorrect
+     */
+    public static LocalDateTime parseLocalDateTime(String dateTime, Prefix prefix) throws ParseException {
+        requireNonNull(dateTime);
+        try {
+            return getFormattedDateTime(dateTime.trim());
+        } catch (DateTimeParseException e) {
+            throw new ParseException("Date Time format given is incorrect. "
+                    + "Please follow this format: \"" + prefix + " 2019-09-25T23:59:50.63\""
+                    + "or \"" + prefix + " 25/09/2019 2359\"");
+        }
+    }
+
     /**
      * Parse the {@code reminder} into a {@code Optional<Reminder>} and returns it.
      * Converts the string time into a LocalDateTime object and create a Reminder with it.
@@ -169,42 +193,22 @@ public class ParserUtil {
     }
 
     /**
-     * Processes the string by trying out different formats, and returns a LocalDateTime
+     * Processes the string by trying out the formats in {@link #DATE_TIME_FORMATS} in turn, and returns a
+     * LocalDateTime. A format is only used to parse the string once the string has been found to be laid out in it,
+     * which is checked without throwing an exception, so the formats that do not fit are passed over cheaply.
      * @param stringDateTime of the date and time
      * @return a LocalDateTime representation of the given string
      * @throws DateTimeParseException if the format of the string given is incorrect
      */
     private static LocalDateTime getFormattedDateTime(String stringDateTime) throws DateTimeParseException {
-        LocalDateTime processedDateTime;
-
-        try {
-            processedDateTime = LocalDateTime.parse(stringDateTime);
-        } catch (DateTimeParseException e1) {
-            try {
-                processedDateTime = parseUsingFormatter(stringDateTime);
-            } catch (Exception e2) {
-                throw new DateTimeParseException(e2.getMessage(), stringDateTime, 0);
+        for (DateTimeFormatter format : DATE_TIME_FORMATS) {
+            ParsePosition position = new ParsePosition(0);
+            if (format.parseUnresolved(stringDateTime, position) != null
+                    && position.getErrorIndex() < 0 && position.getIndex() == stringDateTime.length()) {
+                // Throws if a field is out of range, such as a day of the month that the month does not have.
+                return LocalDateTime.parse(stringDateTime, format);
             }
         }
-
-        return processedDateTime;
-    }
-
-    /**
-     * Processes the string using the given format and returns a LocalDateTime
-     * @param stringDateTime of the format "dd/MM/yyyy HHmm"
-     * @return LocalDateTime representation of the string
-     */
-    private static LocalDateTime parseUsingFormatter(String stringDateTime) {
-        String[] splitTime = stringDateTime.split(" ");
-
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        LocalDate processedDate = LocalDate.parse(splitTime[0], dateFormatter);
-
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HHmm");
-        LocalTime processedTime = LocalTime.parse(splitTime[1], timeFormatter);
-
-        LocalDateTime processedDateTime = LocalDateTime.of(processedDate, processedTime);
-        return processedDateTime;
+        throw new DateTimeParseException("Text '" + stringDateTime + "' could not be parsed", stringDateTime, 0);
     }
 }
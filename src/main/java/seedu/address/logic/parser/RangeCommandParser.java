@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_DATETIME;
+
+import java.time.LocalDateTime;
+
+import seedu.address.logic.commands.RangeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RangeCommand object
+ */
+public class RangeCommandParser implements Parser<RangeCommand> {
+
+    public static final String MESSAGE_END_NOT_AFTER_START = "The end of the range must be after its start.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RangeCommand
+     * and returns a RangeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RangeCommand parse(String description, String flags) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(flags, PREFIX_DATETIME, PREFIX_END_DATETIME);
+
+        if (!description.trim().isEmpty() || !argMultimap.getValue(PREFIX_DATETIME).isPresent()
+                || !argMultimap.getValue(PREFIX_END_DATETIME).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RangeCommand.MESSAGE_USAGE));
+        }
+
+        LocalDateTime start = ParserUtil.parseLocalDateTime(argMultimap.getValue(PREFIX_DATETIME).get(),
+                PREFIX_DATETIME);
+        LocalDateTime end = ParserUtil.parseLocalDateTime(argMultimap.getValue(PREFIX_END_DATETIME).get(),
+                PREFIX_END_DATETIME);
+        if (!end.isAfter(start)) {
+            throw new ParseException(MESSAGE_END_NOT_AFTER_START);
+        }
+
+        return new RangeCommand(start, end);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RedoCommand object
+ */
+public class RedoCommandParser implements Parser<RedoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RedoCommand
+     * and returns a RedoCommand object for execution. The number of commands defaults to one.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RedoCommand parse(String args, String flags) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new RedoCommand();
+        }
+
+        try {
+            int count = ParserUtil.parseIndex(args).getOneBased();
+            if (count > RedoCommand.MAX_COUNT) {
+                throw new ParseException(RedoCommand.MESSAGE_USAGE);
+            }
+            return new RedoCommand(count);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UndoCommand object
+ */
+public class UndoCommandParser implements Parser<UndoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UndoCommand
+     * and returns a UndoCommand object for execution. The number of commands defaults to one.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UndoCommand parse(String args, String flags) throws ParseException {
+        if (args.trim().isEmpty()) {
+            return new UndoCommand();
+        }
+
+        try {
+            int count = ParserUtil.parseIndex(args).getOneBased();
+            if (count > UndoCommand.MAX_COUNT) {
+                throw new ParseException(UndoCommand.MESSAGE_USAGE);
+            }
+            return new UndoCommand(count);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE), pe);
+        }
+    }
+
+}
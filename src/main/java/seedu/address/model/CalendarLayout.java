@@ -0,0 +1,148 @@
+package seedu.address.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import seedu.address.commons.core.item.Event;
+import seedu.address.commons.core.item.Item;
+
+/**
+ * Lays out the events of a range of days as in a calendar, where each day is a column of time.
+ * An event is cut into a slot for each day it takes up. The slots of a day that overlap are put side by side in
+ * columns: a sweep over the slots in the order they start gives each slot the lowest column that is free by then, and
+ * every slot of a group of slots that overlap one another, directly or through other slots, is given the number of
+ * columns the group needed, so that they share the width of the day evenly.
+ * Laying out n slots takes O(n log n) time.
+ */
+public class CalendarLayout {
+    private static final Comparator<Slot> SLOT_ORDER = Comparator.comparingInt((Slot slot) -> slot.day)
+            .thenComparing(slot -> slot.start)
+            .thenComparing(slot -> slot.end, Comparator.reverseOrder());
+
+    private CalendarLayout() {}
+
+    /**
+     * Lays out the events of the days from {@code firstDay} on.
+     * @param items the items with events to be laid out, of which only the parts in the days are shown
+     * @param firstDay the first day shown
+     * @param days the number of days shown
+     * @param minimumDuration the least time an event is shown to take up, so that a short event is given room
+     * @return the slots of the events, by day and then in the order they start
+     */
+    public static List<Slot> layOut(List<Item> items, LocalDate firstDay, int days, Duration minimumDuration) {
+        LocalDateTime rangeStart = firstDay.atStartOfDay();
+        LocalDateTime rangeEnd = firstDay.plusDays(days).atStartOfDay();
+        List<Slot> slots = new ArrayList<>();
+        for (Item item : items) {
+            Event event = item.getEvent().get();
+            LocalDateTime start = event.getStartDateTime();
+            LocalDateTime end = event.getEndDateTime();
+            if (end.isBefore(start.plus(minimumDuration))) {
+                end = start.plus(minimumDuration);
+            }
+            LocalDateTime slotStart = start.isBefore(rangeStart) ? rangeStart : start;
+            while (slotStart.isBefore(end) && slotStart.isBefore(rangeEnd)) {
+                LocalDateTime dayEnd = slotStart.toLocalDate().plusDays(1).atStartOfDay();
+                LocalDateTime slotEnd = end.isBefore(dayEnd) ? end : dayEnd;
+                int day = (int) (slotStart.toLocalDate().toEpochDay() - firstDay.toEpochDay());
+                slots.add(new Slot(item, day, slotStart, slotEnd));
+                slotStart = dayEnd;
+            }
+        }
+        slots.sort(SLOT_ORDER);
+        assignColumns(slots);
+        return slots;
+    }
+
+    /**
+     * Sweeps over the slots, which are in order, giving each a column and the number of columns of its group.
+     */
+    private static void assignColumns(List<Slot> slots) {
+        // The slots that have not ended yet, by their end, and the columns they have freed up.
+        PriorityQueue<Slot> active = new PriorityQueue<>(Comparator.comparing((Slot slot) -> slot.end));
+        PriorityQueue<Integer> freeColumns = new PriorityQueue<>();
+        List<Slot> group = new ArrayList<>();
+        int groupColumns = 0;
+        int day = -1;
+        for (Slot slot : slots) {
+            while (!active.isEmpty() && (active.peek().day != slot.day || !active.peek().end.isAfter(slot.start))) {
+                freeColumns.add(active.poll().column);
+            }
+            if (active.isEmpty() || slot.day != day) {
+                // Nothing still going overlaps this slot, so the group before it is complete.
+                endGroup(group, groupColumns);
+                groupColumns = 0;
+                freeColumns.clear();
+                day = slot.day;
+            }
+            slot.column = freeColumns.isEmpty() ? groupColumns++ : freeColumns.poll();
+            active.add(slot);
+            group.add(slot);
+        }
+        endGroup(group, groupColumns);
+    }
+
+    private static void endGroup(List<Slot> group, int columns) {
+        for (Slot slot : group) {
+            slot.columns = columns;
+        }
+        group.clear();
+    }
+
+    /**
+     * The part of an event that falls in one day, and where it is placed in the day.
+     */
+    public static class Slot {
+        private final Item item;
+        private final int day;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private int column;
+        private int columns;
+
+        Slot(Item item, int day, LocalDateTime start, LocalDateTime end) {
+            this.item = item;
+            this.day = day;
+            this.start = start;
+            this.end = end;
+        }
+
+        public Item getItem() {
+            return item;
+        }
+
+        /**
+         * Returns the day of the slot, counting the first day laid out as 0.
+         */
+        public int getDay() {
+            return day;
+        }
+
+        public LocalDateTime getStart() {
+            return start;
+        }
+
+        public LocalDateTime getEnd() {
+            return end;
+        }
+
+        /**
+         * Returns the column the slot is put in, counting from 0, among the {@link #getColumns()} columns.
+         */
+        public int getColumn() {
+            return column;
+        }
+
+        /**
+         * Returns the number of columns that the day is split into where the slot is.
+         */
+        public int getColumns() {
+            return columns;
+        }
+    }
+}
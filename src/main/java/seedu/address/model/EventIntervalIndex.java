@@ -0,0 +1,249 @@
+package seedu.address.model;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.item.Event;
+import seedu.address.commons.core.item.Item;
+
+/**
+ * An interval tree over the times the events take up, for finding the events that overlap a range of time.
+ * The tree is an AVL tree of the events ordered by their start and then by item ID, in which every node also holds
+ * the latest end of the events below it. A search skips every subtree whose events all end before the range, and
+ * stops at the first event that starts after it, so it takes O(log n) time plus time for each event found.
+ *
+ * An event takes up the half-open range of seconds from its start to its end. An event without a duration is taken
+ * to last for its first second, so that it still overlaps a range it starts in.
+ */
+public class EventIntervalIndex {
+    private Node root = null;
+    private int size = 0;
+
+    /**
+     * Indexes the event of an item under the item's ID.
+     * @param item an item with an event.
+     */
+    public void add(int id, Item item) {
+        Event event = item.getEvent().get();
+        long start = toSeconds(event.getStartDateTime());
+        root = insert(root, new Node(start, getEnd(start, event), id, item));
+        size++;
+    }
+
+    /**
+     * Removes the event of an item indexed under its ID.
+     * @param item the item as it was when it was indexed.
+     * @return true if the event was in the index.
+     */
+    public boolean remove(int id, Item item) {
+        int oldSize = size;
+        root = delete(root, toSeconds(item.getEvent().get().getStartDateTime()), id);
+        return size < oldSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the items with events that overlap the range of time from {@code start} up to {@code end}.
+     * @return the items found, in the order of the start of their events and then of their IDs.
+     */
+    public List<Item> findOverlapping(LocalDateTime start, LocalDateTime end) {
+        List<Item> found = new ArrayList<>();
+        collect(root, toSeconds(start), toSeconds(end), found);
+        return found;
+    }
+
+    /**
+     * Returns the items with events that overlap the event of the given item, other than the item itself.
+     * @return the items found, in the order of the start of their events and then of their IDs.
+     */
+    public List<Item> findOverlapping(Item item) {
+        Event event = item.getEvent().get();
+        long start = toSeconds(event.getStartDateTime());
+        List<Item> found = new ArrayList<>();
+        collect(root, start, getEnd(start, event), found);
+        found.removeIf(foundItem -> foundItem == item);
+        return found;
+    }
+
+    private static long toSeconds(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long getEnd(long start, Event event) {
+        return Math.max(toSeconds(event.getEndDateTime()), start + 1);
+    }
+
+    /**
+     * Adds the events in the subtree that overlap the range of seconds from {@code start} up to {@code end} to the
+     * list, in order.
+     */
+    private static void collect(Node node, long start, long end, List<Item> found) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collect(node.left, start, end, found);
+        if (node.start >= end) {
+            // This event and every event after it start too late.
+            return;
+        }
+        if (node.end > start) {
+            found.add(node.item);
+        }
+        collect(node.right, start, end, found);
+    }
+
+    private static int compare(long start, int id, Node node) {
+        int result = Long.compare(start, node.start);
+        return result != 0 ? result : Integer.compare(id, node.id);
+    }
+
+    /**
+     * Inserts the node into the subtree.
+     * @return the root of the subtree with the node.
+     */
+    private static Node insert(Node node, Node newNode) {
+        if (node == null) {
+            return newNode;
+        }
+        if (compare(newNode.start, newNode.id, node) < 0) {
+            node.left = insert(node.left, newNode);
+        } else {
+            node.right = insert(node.right, newNode);
+        }
+        return balance(node);
+    }
+
+    /**
+     * Deletes the node with the given start and ID from the subtree, decrementing the size if it is found.
+     * @return the root of the subtree without the node.
+     */
+    private Node delete(Node node, long start, int id) {
+        if (node == null) {
+            return null;
+        }
+        int result = compare(start, id, node);
+        if (result < 0) {
+            node.left = delete(node.left, start, id);
+        } else if (result > 0) {
+            node.right = delete(node.right, start, id);
+        } else {
+            size--;
+            if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            Node successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteFirst(node.right);
+            successor.left = node.left;
+            node = successor;
+        }
+        return balance(node);
+    }
+
+    /**
+     * Deletes the first node of the subtree.
+     * @return the root of the subtree without the node.
+     */
+    private static Node deleteFirst(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = deleteFirst(node.left);
+        return balance(node);
+    }
+
+    /**
+     * Updates the node from its children and restores the balance of the subtree if one side has grown too high.
+     * @return the new root of the subtree.
+     */
+    private static Node balance(Node node) {
+        node.update();
+        int difference = height(node.left) - height(node.right);
+        if (difference > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (difference < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    /**
+     * Rotates the subtree to the left, making the right child of the node the root.
+     */
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    /**
+     * Rotates the subtree to the right, making the left child of the node the root.
+     */
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, holding one event.
+     */
+    private static final class Node {
+        private final long start;
+        private final long end;
+        private final int id;
+        private final Item item;
+        private Node left = null;
+        private Node right = null;
+        private int height = 1;
+        // The latest end of the events in the subtree of this node.
+        private long maxEnd;
+
+        private Node(long start, long end, int id, Item item) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.item = item;
+            this.maxEnd = end;
+        }
+
+        /**
+         * Works out the height and the latest end of the subtree from those of the children.
+         */
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            maxEnd = end;
+            if (left != null) {
+                maxEnd = Math.max(maxEnd, left.maxEnd);
+            }
+            if (right != null) {
+                maxEnd = Math.max(maxEnd, right.maxEnd);
+            }
+        }
+    }
+}
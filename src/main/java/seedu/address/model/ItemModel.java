@@ -1,6 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.item.Item;
@@ -66,5 +71,75 @@ public interface ItemModel {
 
     public VisualizeList findItem(String[] searchStrings);
 
+    /**
+     * Finds the items as {@link #findItem(String[])} does, telling the listener how many of the search strings have
+     * been searched for after each one. The listener may throw to stop the search, leaving the list being shown as it
+     * was.
+     */
+    public VisualizeList findItem(String[] searchStrings, IntConsumer searchedListener);
+
+    /**
+     * Finds the items of the list being shown with words close to the search strings, best matches first.
+     */
+    public VisualizeList fuzzyFindItem(String[] searchStrings);
+
+    /**
+     * Finds the items as {@link #fuzzyFindItem(String[])} does, telling the listener how many of the search strings
+     * have been searched for after each one. The listener may throw to stop the search, leaving the list being shown
+     * as it was.
+     */
+    public VisualizeList fuzzyFindItem(String[] searchStrings, IntConsumer searchedListener);
+
+    /**
+     * Shows the events that take place at some time from {@code start} up to {@code end}.
+     */
+    public VisualizeList findEventsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the events that take place at some time from {@code start} up to {@code end}, without changing the
+     * list being shown.
+     */
+    public List<Item> getEventsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the other events that take place at the same time as the event of the item.
+     */
+    public List<Item> getConflictingEvents(Item item);
+
     public void sort();
+
+    /**
+     * Starts handing the items of the reminders that fall due to the listener, through the executor.
+     */
+    public void startReminders(Executor executor, Consumer<Item> listener);
+
+    /**
+     * Stops handing over the reminders that fall due.
+     */
+    public void stopReminders();
+
+    /**
+     * Undoes the last change to the items. Returns false if there is no change to undo.
+     */
+    public boolean undo();
+
+    /**
+     * Redoes the last undone change to the items. Returns false if there is no undo to redo.
+     */
+    public boolean redo();
+
+    /**
+     * Starts a batch of changes, which can be undone as one change once it is committed.
+     */
+    public void startBatch();
+
+    /**
+     * Ends the batch of changes being made, keeping the changes.
+     */
+    public void commitBatch();
+
+    /**
+     * Ends the batch of changes being made, restoring the items to how they were before it started.
+     */
+    public void rollBackBatch();
 }
@@ -3,6 +3,19 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.item.Item;
@@ -14,27 +27,54 @@ import seedu.address.model.item.VisualizeList;
 
 /**
  * Represents the model for ELISA
+ * The task, event and reminder lists hold their items in the order of the items' IDs in the item storage,
+ * so an item can be found in them by binary search on its ID.
+ * Once a list has been sorted, its sorted view is kept up to date with every change in the same way, with the items
+ * in its sort order and ties in the order of their IDs, so sorting the list again is just a switch to that view.
+ * Every change to the items keeps a snapshot of the item storage from before the change, so that it can be undone.
+ * The changes of a batch share the one snapshot from before the batch, so they are undone together.
+ * The reminders are kept scheduled to fire, and are rescheduled as the items change. Only the reminders due soon are
+ * scheduled, and the reminder scheduler pages in the rest from a snapshot of the item storage as they come due.
  */
 public class ItemModelManager implements ItemModel {
-    private TaskList taskList;
-    private EventList eventList;
-    private ReminderList reminderList;
+    private final TaskList taskList;
+    private final EventList eventList;
+    private final ReminderList reminderList;
+    // The sorted views of the task, event and reminder lists, null until the list is first sorted so that lazy items
+    // are not decoded just to be sorted.
+    private TaskList sortedTaskList = null;
+    private EventList sortedEventList = null;
+    private ReminderList sortedReminderList = null;
+    // The events of the event list by the time they take up, null until it is first needed.
+    private EventIntervalIndex eventIndex = null;
+    private final ReminderScheduler reminderScheduler;
     // The list to be used for visualizing in the Ui
     private VisualizeList visualList;
     private final UserPrefs userPrefs;
     private ItemStorage itemStorage;
+    // Snapshots of the item storage from before each change, and from before each undo, most recent first.
+    private final Deque<ItemStorage> undoHistory = new ArrayDeque<>();
+    private final Deque<ItemStorage> redoHistory = new ArrayDeque<>();
+    // The snapshot of the item storage from before the batch of changes being made, null if there is no batch.
+    private ItemStorage batchSnapshot = null;
+    private boolean isBatchChanged = false;
 
     public ItemModelManager(ItemStorage itemStorage, ReadOnlyUserPrefs userPrefs) {
+        this(itemStorage, userPrefs, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a model whose reminders fall due by the given clock.
+     */
+    public ItemModelManager(ItemStorage itemStorage, ReadOnlyUserPrefs userPrefs, Clock clock) {
+        this.reminderScheduler = new ReminderScheduler(clock);
         this.taskList = new TaskList();
         this.eventList = new EventList();
         this.reminderList = new ReminderList();
         this.visualList = taskList;
-        this.itemStorage = itemStorage;
         this.userPrefs = new UserPrefs(userPrefs);
 
-        for (int i = 0; i < itemStorage.size(); i++) {
-            addToSeparateList(itemStorage.get(i));
-        }
+        setItemStorage(itemStorage);
     }
 
     @Override
@@ -72,9 +112,38 @@ public class ItemModelManager implements ItemModel {
 
     //=========== AddressBook ================================================================================
 
+    /**
+     * Replaces the item storage, rebuilding the task, event and reminder lists from it.
+     * The items are only asked what kind they are, so lazy items are not decoded.
+     * @param itemStorage the new item storage
+     */
     @Override
     public void setItemStorage(ItemStorage itemStorage) {
         this.itemStorage = itemStorage;
+        this.eventIndex = null;
+        reminderScheduler.reset(itemStorage.deepCopy());
+        List<Item> tasks = new ArrayList<>();
+        List<Item> events = new ArrayList<>();
+        List<Item> reminders = new ArrayList<>();
+        // The items come in the order of their IDs, so they can be appended to the lists without searching them.
+        for (Item item : itemStorage.getItems()) {
+            if (item.hasTask()) {
+                tasks.add(item);
+            }
+            if (item.hasEvent()) {
+                events.add(item);
+            }
+            if (item.hasReminder()) {
+                reminders.add(item);
+            }
+        }
+        // Each list is refilled as one change, so that a view of it is redrawn once.
+        taskList.setAll(tasks);
+        eventList.setAll(events);
+        reminderList.setAll(reminders);
+        resortView(sortedTaskList, taskList, TaskList.SORT_ORDER);
+        resortView(sortedEventList, eventList, EventList.SORT_ORDER);
+        resortView(sortedReminderList, reminderList, ReminderList.SORT_ORDER);
     }
 
     @Override
@@ -88,8 +157,11 @@ public class ItemModelManager implements ItemModel {
      * @param item the item to be added to the program
      */
     public void addItem (Item item) {
+        ItemStorage snapshot = itemStorage.deepCopy();
         itemStorage.add(item);
         addToSeparateList(item);
+        reminderScheduler.setSource(itemStorage.deepCopy());
+        recordHistory(snapshot);
     }
 
     /**
@@ -102,23 +174,163 @@ public class ItemModelManager implements ItemModel {
     }
 
     /**
-     * Helper function to add an item to it's respective list
+     * Helper function to add an item to it's respective list. The item must already be in the item storage.
      * @param item the item to be added into the lists
      */
     private void addToSeparateList(Item item) {
+        int id = itemStorage.getId(item);
         if (item.hasTask()) {
-            taskList.add(item);
+            insertById(taskList, item, id);
         }
 
         if (item.hasEvent()) {
-            eventList.add(item);
+            insertById(eventList, item, id);
+            if (eventIndex != null) {
+                eventIndex.add(id, item);
+            }
         }
 
         if (item.hasReminder()) {
-            reminderList.add(item);
+            insertById(reminderList, item, id);
+            reminderScheduler.schedule(id, item);
+        }
+        insertSorted(item);
+    }
+
+    /**
+     * Helper function to insert an item into a task, event or reminder list at the position of its ID.
+     */
+    private void insertById(VisualizeList kindList, Item item, int id) {
+        int index = indexOfId(kindList, id);
+        if (index < 0) {
+            kindList.add(-index - 1, item);
+        }
+    }
+
+    /**
+     * Helper function to remove the item with the ID from a task, event or reminder list.
+     * @return the index the item was removed from, or a negative value if it was not in the list.
+     */
+    private int removeById(VisualizeList kindList, int id) {
+        int index = indexOfId(kindList, id);
+        if (index >= 0) {
+            kindList.remove(index);
+        }
+        return index;
+    }
+
+    /**
+     * Helper function to insert an item into the sorted views of the lists it belongs to, at the position of its
+     * sort order. The item must already be in the item storage.
+     */
+    private void insertSorted(Item item) {
+        if (sortedTaskList != null && item.hasTask()) {
+            insertSorted(sortedTaskList, TaskList.SORT_ORDER, item);
+        }
+        if (sortedEventList != null && item.hasEvent()) {
+            insertSorted(sortedEventList, EventList.SORT_ORDER, item);
+        }
+        if (sortedReminderList != null && item.hasReminder()) {
+            insertSorted(sortedReminderList, ReminderList.SORT_ORDER, item);
+        }
+    }
+
+    /**
+     * Helper function to remove an item from the sorted views it is in. The item must still be in the item storage,
+     * as its ID is needed to find it among the items that sort the same.
+     */
+    private void removeSorted(Item item) {
+        if (sortedTaskList != null && item.hasTask()) {
+            removeSorted(sortedTaskList, TaskList.SORT_ORDER, item);
+        }
+        if (sortedEventList != null && item.hasEvent()) {
+            removeSorted(sortedEventList, EventList.SORT_ORDER, item);
+        }
+        if (sortedReminderList != null && item.hasReminder()) {
+            removeSorted(sortedReminderList, ReminderList.SORT_ORDER, item);
+        }
+    }
+
+    private void insertSorted(VisualizeList sortedList, Comparator<Item> sortOrder, Item item) {
+        int index = Collections.binarySearch(sortedList.getList(), item, viewOrder(sortOrder));
+        if (index < 0) {
+            sortedList.add(-index - 1, item);
+        }
+    }
+
+    private void removeSorted(VisualizeList sortedList, Comparator<Item> sortOrder, Item item) {
+        int index = Collections.binarySearch(sortedList.getList(), item, viewOrder(sortOrder));
+        if (index >= 0) {
+            sortedList.remove(index);
         }
     }
 
+    /**
+     * Returns the order of a sorted view: the sort order of its list, with ties broken by the IDs of the items.
+     */
+    private Comparator<Item> viewOrder(Comparator<Item> sortOrder) {
+        return sortOrder.thenComparingInt(itemStorage::getId);
+    }
+
+    /**
+     * Helper function to refill a sorted view, if it has been made, with the items of its list in the view order.
+     */
+    private void resortView(VisualizeList sortedList, VisualizeList kindList, Comparator<Item> sortOrder) {
+        if (sortedList == null) {
+            return;
+        }
+        List<Item> sortedItems = new ArrayList<>(kindList.getList());
+        // The list is in ID order, and the sort is stable.
+        sortedItems.sort(sortOrder);
+        sortedList.setAll(sortedItems);
+    }
+
+    /**
+     * Returns the interval tree of the events in the event list, building it first if it has not been built yet.
+     */
+    private EventIntervalIndex getEventIndex() {
+        if (eventIndex == null) {
+            EventIntervalIndex newEventIndex = new EventIntervalIndex();
+            for (Item item : eventList.getList()) {
+                newEventIndex.add(itemStorage.getId(item), item);
+            }
+            eventIndex = newEventIndex;
+        }
+        return eventIndex;
+    }
+
+    /**
+     * Helper function to remove the event of an item from the interval tree of the events, if it has been built.
+     */
+    private void removeFromEventIndex(Item item, int id) {
+        if (eventIndex != null && item.hasEvent()) {
+            eventIndex.remove(id, item);
+        }
+    }
+
+    /**
+     * Finds the item with the ID in a task, event or reminder list by binary search.
+     * Every item in the list must be in the item storage.
+     * @return the index of the item, or {@code (-(insertion point) - 1)} if it is not in the list.
+     */
+    private int indexOfId(VisualizeList kindList, int id) {
+        ArrayList<Item> list = kindList.getList();
+        int low = 0;
+        int high = list.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = itemStorage.getId(list.get(mid));
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
     /**
      * Remove an item from the current list.
      * @param index the item to be removed from the current list
@@ -126,12 +338,24 @@ public class ItemModelManager implements ItemModel {
      */
     public Item removeItem(int index) {
         Item item = visualList.remove(index);
+        int id = itemStorage.getId(item);
         if (visualList instanceof TaskList) {
-            taskList.remove(item);
+            removeById(taskList, id);
+            if (sortedTaskList != null) {
+                removeSorted(sortedTaskList, TaskList.SORT_ORDER, item);
+            }
         } else if (visualList instanceof EventList) {
-            eventList.remove(item);
+            removeById(eventList, id);
+            removeFromEventIndex(item, id);
+            if (sortedEventList != null) {
+                removeSorted(sortedEventList, EventList.SORT_ORDER, item);
+            }
         } else if (visualList instanceof ReminderList) {
-            reminderList.remove(item);
+            removeById(reminderList, id);
+            reminderScheduler.cancel(id);
+            if (sortedReminderList != null) {
+                removeSorted(sortedReminderList, ReminderList.SORT_ORDER, item);
+            }
         } else {
             // never reached here as there are only three variants for the visualList
         }
@@ -145,11 +369,18 @@ public class ItemModelManager implements ItemModel {
      * @return the item that was deleted from the program
      */
     public Item deleteItem(int index) {
+        ItemStorage snapshot = itemStorage.deepCopy();
         Item item = visualList.remove(index);
+        int id = itemStorage.getId(item);
+        removeById(taskList, id);
+        removeById(eventList, id);
+        removeById(reminderList, id);
+        removeFromEventIndex(item, id);
+        reminderScheduler.cancel(id);
+        removeSorted(item);
         itemStorage.remove(item);
-        taskList.remove(item);
-        eventList.remove(item);
-        reminderList.remove(item);
+        reminderScheduler.setSource(itemStorage.deepCopy());
+        recordHistory(snapshot);
         return item;
     }
 
@@ -187,51 +418,303 @@ public class ItemModelManager implements ItemModel {
      * @param newItem the item that will replace the previous item
      */
     public void replaceItem(Item item, Item newItem) {
-        int index = visualList.indexOf(item);
-        visualList.setItem(index, newItem);
-
-        if ((index = itemStorage.indexOf(item)) >= 0) {
-            itemStorage.setItem(index, newItem);
+        ItemStorage snapshot = itemStorage.deepCopy();
+        if (visualList != taskList && visualList != eventList && visualList != reminderList
+                && !isSortedView(visualList)) {
+            int index = visualList.indexOf(item);
+            visualList.setItem(index, newItem);
         }
 
-        if ((index = taskList.indexOf(item)) >= 0) {
-            taskList.setItem(index, newItem);
-        }
+        int id = itemStorage.getId(item);
+        removeById(taskList, id);
+        removeById(eventList, id);
+        removeById(reminderList, id);
+        removeFromEventIndex(item, id);
+        reminderScheduler.cancel(id);
+        removeSorted(item);
+        itemStorage.replace(item, newItem);
+        addToSeparateList(newItem);
+        reminderScheduler.setSource(itemStorage.deepCopy());
+        recordHistory(snapshot);
+    }
+
+    /**
+     * Find the items of the list being shown whose description or tags contain any of the search strings.
+     * @param searchStrings the strings to search for within the description and tags
+     * @return the item list containing all the items that contain the search string
+     */
+    public VisualizeList findItem(String[] searchStrings) {
+        return findItem(searchStrings, searched -> { });
+    }
+
+    @Override
+    public VisualizeList findItem(String[] searchStrings, IntConsumer searchedListener) {
+        this.visualList = filterVisualList(itemStorage.find(searchStrings, searchedListener));
+        return this.visualList;
+    }
+
+    /**
+     * Find the items of the list being shown with words that closely match any of the search strings, allowing for
+     * words that are not complete and for typos. The best matches are shown first.
+     * @param searchStrings the strings to search for among the words of the description and tags
+     * @return the item list containing the items found, ranked by how well they match
+     */
+    public VisualizeList fuzzyFindItem(String[] searchStrings) {
+        return fuzzyFindItem(searchStrings, searched -> { });
+    }
 
-        if ((index = eventList.indexOf(item)) >= 0) {
-            eventList.setItem(index, newItem);
+    @Override
+    public VisualizeList fuzzyFindItem(String[] searchStrings, IntConsumer searchedListener) {
+        List<Item> foundItems = itemStorage.fuzzyFind(searchStrings, searchedListener);
+        VisualizeList foundList = filterVisualList(foundItems);
+        HashMap<Item, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < foundItems.size(); i++) {
+            ranks.put(foundItems.get(i), i);
         }
+        foundList.getList().sort(Comparator.comparing(ranks::get));
+        this.visualList = foundList;
+        return this.visualList;
+    }
 
-        if ((index = reminderList.indexOf(item)) >= 0) {
-            reminderList.setItem(index, newItem);
+    /**
+     * Returns a new list of the same kind as the list being shown, holding the items of that list that were found.
+     * The items are looked up in the item storage by its search indexes. As the task, event and reminder lists are
+     * in the order of the item IDs, the items found can be shown without looking at the whole list when one of those
+     * lists is being shown, and they are then kept in the order given. Otherwise they are in the order of the list.
+     * @param foundItems the items found in the item storage
+     */
+    private VisualizeList filterVisualList(List<Item> foundItems) {
+        if (visualList == taskList) {
+            TaskList foundTasks = new TaskList();
+            foundItems.stream().filter(Item::hasTask).forEach(foundTasks.getList()::add);
+            return foundTasks;
+        } else if (visualList == eventList) {
+            EventList foundEvents = new EventList();
+            foundItems.stream().filter(Item::hasEvent).forEach(foundEvents.getList()::add);
+            return foundEvents;
+        } else if (visualList == reminderList) {
+            ReminderList foundReminders = new ReminderList();
+            foundItems.stream().filter(Item::hasReminder).forEach(foundReminders.getList()::add);
+            return foundReminders;
+        } else {
+            return visualList.find(new HashSet<>(foundItems));
         }
     }
 
     /**
-     * Find an item based on its description.
-     * @param searchStrings the string to search for within the description
-     * @return the item list containing all the items that contain the search string
+     * Shows the events that take place at some time from {@code start} up to {@code end}, in the order they start.
+     * The events are looked up in an interval tree, so only the events found are looked at.
+     * @param start the start of the range of time
+     * @param end the end of the range of time, after the start
+     * @return the event list containing the events found
      */
-    public VisualizeList findItem(String[] searchStrings) {
-        this.visualList = visualList.find(searchStrings);
+    public VisualizeList findEventsBetween(LocalDateTime start, LocalDateTime end) {
+        EventList foundEvents = new EventList();
+        foundEvents.getList().addAll(getEventIndex().findOverlapping(start, end));
+        this.visualList = foundEvents;
         return this.visualList;
     }
 
+    /**
+     * Returns the events that take place at some time from {@code start} up to {@code end}, in the order they start,
+     * such as the events of the days shown in a calendar. The events are looked up in the interval tree.
+     * @param start the start of the range of time
+     * @param end the end of the range of time, after the start
+     * @return the items whose events were found
+     */
+    public List<Item> getEventsBetween(LocalDateTime start, LocalDateTime end) {
+        return getEventIndex().findOverlapping(start, end);
+    }
+
+    /**
+     * Returns the other events that take place at the same time as the event of the item, in the order they start.
+     * @param item an item in the item storage
+     * @return the items whose events overlap the event of the item, or an empty list if it has no event
+     */
+    public List<Item> getConflictingEvents(Item item) {
+        if (!item.hasEvent()) {
+            return Collections.emptyList();
+        }
+        return getEventIndex().findOverlapping(item);
+    }
+
+    /**
+     * Starts firing the reminders as they fall due, handing the item of each reminder to the listener through the
+     * executor. The reminders are kept scheduled from the start, so none are missed while the scheduler is stopped.
+     * @param executor the executor the listener is called through, such as one that runs it on the UI thread
+     * @param listener the listener that is given the items of the reminders that fall due
+     */
+    public void startReminders(Executor executor, Consumer<Item> listener) {
+        reminderScheduler.start(executor, listener);
+    }
+
+    /**
+     * Stops firing the reminders.
+     */
+    public void stopReminders() {
+        reminderScheduler.stop();
+    }
+
     /**
      * Clears the storage for the current ELISA run.
      */
     public void clear() {
+        ItemStorage snapshot = itemStorage.deepCopy();
+        // The lists are emptied in place, so that the views of them are kept.
         setItemStorage(new ItemStorage());
-        this.taskList = new TaskList();
-        this.eventList = new EventList();
-        this.reminderList = new ReminderList();
+        this.sortedTaskList = null;
+        this.sortedEventList = null;
+        this.sortedReminderList = null;
         this.visualList = taskList;
+        recordHistory(snapshot);
+    }
+
+    /**
+     * Restores the items to how they were before the last change that has not been undone.
+     * @return true if there was a change to undo.
+     */
+    public boolean undo() {
+        if (undoHistory.isEmpty()) {
+            return false;
+        }
+        redoHistory.push(itemStorage.deepCopy());
+        restore(undoHistory.pop());
+        return true;
+    }
+
+    /**
+     * Restores the items to how they were before the last undo, if nothing has been changed since.
+     * @return true if there was an undo to redo.
+     */
+    public boolean redo() {
+        if (redoHistory.isEmpty()) {
+            return false;
+        }
+        undoHistory.push(itemStorage.deepCopy());
+        restore(redoHistory.pop());
+        return true;
+    }
+
+    /**
+     * Starts a batch of changes. Until the batch ends, the changes are not remembered one by one, and once it is
+     * committed they are undone as one change.
+     */
+    public void startBatch() {
+        if (batchSnapshot != null) {
+            throw new IllegalStateException("A batch of changes is already being made");
+        }
+        batchSnapshot = itemStorage.deepCopy();
+        isBatchChanged = false;
+    }
+
+    /**
+     * Ends the batch of changes being made, remembering the item storage from before the batch if it was changed.
+     */
+    public void commitBatch() {
+        ItemStorage snapshot = endBatch();
+        if (isBatchChanged) {
+            recordHistory(snapshot);
+        }
+    }
+
+    /**
+     * Ends the batch of changes being made, restoring the items to how they were before the batch.
+     */
+    public void rollBackBatch() {
+        ItemStorage snapshot = endBatch();
+        if (isBatchChanged) {
+            restore(snapshot);
+        }
+    }
+
+    private ItemStorage endBatch() {
+        if (batchSnapshot == null) {
+            throw new IllegalStateException("No batch of changes is being made");
+        }
+        ItemStorage snapshot = batchSnapshot;
+        batchSnapshot = null;
+        return snapshot;
     }
 
     /**
-     * Sort the current visual list.
+     * Helper function to remember the item storage from before a change. Any undone changes can no longer be redone.
+     * @param snapshot a copy of the item storage taken before the change
+     */
+    private void recordHistory(ItemStorage snapshot) {
+        if (batchSnapshot != null) {
+            isBatchChanged = true;
+            return;
+        }
+        undoHistory.push(snapshot);
+        redoHistory.clear();
+    }
+
+    /**
+     * Helper function to replace the items with a snapshot from the history, showing the same kind of list as before.
+     * A sorted view being shown stays shown, as it is refilled in place.
+     * The snapshot is copied so that it is not changed by later commands. The indexes of the items that have been
+     * built are kept, and only the items that differ from the snapshot are indexed again.
+     * @param snapshot the snapshot of the item storage to restore
+     */
+    private void restore(ItemStorage snapshot) {
+        ItemStorage restored = snapshot.deepCopy();
+        EventIntervalIndex keptEventIndex = eventIndex;
+        if (keptEventIndex != null) {
+            restored.forEachDifference(itemStorage, (id, replacedItem, item) -> {
+                if (replacedItem != null && replacedItem.hasEvent()) {
+                    keptEventIndex.remove(id, replacedItem);
+                }
+                if (item != null && item.hasEvent()) {
+                    keptEventIndex.add(id, item);
+                }
+            });
+        }
+        restored.takeSearchIndexesFrom(itemStorage);
+        setItemStorage(restored);
+        eventIndex = keptEventIndex;
+        if (isSortedView(visualList)) {
+            return;
+        } else if (visualList instanceof EventList) {
+            visualList = eventList;
+        } else if (visualList instanceof ReminderList) {
+            visualList = reminderList;
+        } else {
+            visualList = taskList;
+        }
+    }
+
+    /**
+     * Sort the current visual list. Sorting the task, event or reminder list shows its sorted view, which is only
+     * made the first time and then kept up to date. Any other list is sorted into a new list.
      */
     public void sort() {
-        this.visualList = visualList.sort();
+        if (visualList == taskList || visualList == sortedTaskList) {
+            if (sortedTaskList == null) {
+                sortedTaskList = new TaskList();
+                resortView(sortedTaskList, taskList, TaskList.SORT_ORDER);
+            }
+            this.visualList = sortedTaskList;
+        } else if (visualList == eventList || visualList == sortedEventList) {
+            if (sortedEventList == null) {
+                sortedEventList = new EventList();
+                resortView(sortedEventList, eventList, EventList.SORT_ORDER);
+            }
+            this.visualList = sortedEventList;
+        } else if (visualList == reminderList || visualList == sortedReminderList) {
+            if (sortedReminderList == null) {
+                sortedReminderList = new ReminderList();
+                resortView(sortedReminderList, reminderList, ReminderList.SORT_ORDER);
+            }
+            this.visualList = sortedReminderList;
+        } else {
+            this.visualList = visualList.sort();
+        }
+    }
+
+    /**
+     * Returns true if the list is the sorted view of the task, event or reminder list.
+     */
+    private boolean isSortedView(VisualizeList list) {
+        return list != null && (list == sortedTaskList || list == sortedEventList || list == sortedReminderList);
     }
 }
@@ -0,0 +1,185 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the trigrams (runs of three characters) of the item descriptions and tag names to the
+ * IDs of the items they appear in, ignoring case.
+ * A keyword of three or more characters can only appear in an item that has every trigram of the keyword, so the
+ * items to be checked for it are found by intersecting the posting lists of its trigrams instead of looking at every
+ * item. Shorter keywords have no trigrams, and every item has to be checked for them.
+ * The description and each tag are indexed separately, so no trigram spans two of them. A trigram is held as its
+ * three lower case characters packed into a long, which saves making a string for each trigram of every item.
+ */
+public class ItemSearchIndex {
+    public static final int GRAM_LENGTH = 3;
+
+    private final HashMap<Long, PostingList> postings = new HashMap<>();
+
+    /**
+     * Indexes an item under its ID.
+     */
+    public void add(int id, Item item) {
+        for (long gram : getGrams(item)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    /**
+     * Removes an item indexed under its ID.
+     * @param item the item as it was when it was indexed.
+     */
+    public void remove(int id, Item item) {
+        for (long gram : getGrams(item)) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(id);
+            if (postingList.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the IDs of the items that can contain the keyword, in increasing order. Every item that does contain
+     * the keyword is among them, but they still have to be checked with {@link #matches(Item, String)}.
+     * @param keyword the keyword, in lower case as given by {@link #toLowerCase(String)}.
+     * @return the IDs of the items that can contain the keyword, or null if the keyword is too short to be looked up
+     *     and every item can contain it.
+     */
+    public int[] getCandidates(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        long[] grams = new long[keyword.length()];
+        grams = distinct(Arrays.copyOf(grams, addGrams(keyword, grams, 0)));
+        List<PostingList> postingLists = new ArrayList<>(grams.length);
+        for (long gram : grams) {
+            PostingList postingList = postings.get(gram);
+            if (postingList == null) {
+                return new int[0];
+            }
+            postingLists.add(postingList);
+        }
+
+        // Walk the shortest list and look for each of its IDs in the others. The IDs increase, so each of the other
+        // lists is only searched from where the last ID was looked for.
+        postingLists.sort((list1, list2) -> Integer.compare(list1.size(), list2.size()));
+        PostingList shortest = postingLists.get(0);
+        int[] positions = new int[postingLists.size()];
+        int[] candidates = new int[shortest.size()];
+        int count = 0;
+        for (int i = 0; i < shortest.size(); i++) {
+            int id = shortest.get(i);
+            boolean isInAll = true;
+            for (int j = 1; j < postingLists.size() && isInAll; j++) {
+                PostingList postingList = postingLists.get(j);
+                positions[j] = postingList.seek(positions[j], id);
+                isInAll = positions[j] < postingList.size() && postingList.get(positions[j]) == id;
+            }
+            if (isInAll) {
+                candidates[count++] = id;
+            }
+        }
+        return Arrays.copyOf(candidates, count);
+    }
+
+    /**
+     * Returns true if the description or one of the tags of the item contains the keyword, ignoring case.
+     * @param keyword the keyword, in lower case as given by {@link #toLowerCase(String)}.
+     */
+    public static boolean matches(Item item, String keyword) {
+        if (containsIgnoreCase(item.getItemDescription().getDescription(), keyword)) {
+            return true;
+        }
+        for (Tag tag : item.getTags()) {
+            if (containsIgnoreCase(tag.tagName, keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the text in lower case, folding each character as the indexed text is folded, so that a keyword is
+     * found in the same way whatever the default locale is.
+     */
+    public static String toLowerCase(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(text.charAt(i));
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Returns true if the text contains the lower case keyword, ignoring case, without making a lower case copy of
+     * the text.
+     */
+    private static boolean containsIgnoreCase(String text, String keyword) {
+        for (int i = 0; i + keyword.length() <= text.length(); i++) {
+            int length = 0;
+            while (length < keyword.length()
+                    && Character.toLowerCase(text.charAt(i + length)) == keyword.charAt(length)) {
+                length++;
+            }
+            if (length == keyword.length()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the distinct trigrams of the description and the tags of the item, in increasing order.
+     */
+    private static long[] getGrams(Item item) {
+        String description = item.getItemDescription().getDescription();
+        int length = description.length();
+        for (Tag tag : item.getTags()) {
+            length += tag.tagName.length();
+        }
+
+        long[] grams = new long[length];
+        int count = addGrams(description, grams, 0);
+        for (Tag tag : item.getTags()) {
+            count = addGrams(tag.tagName, grams, count);
+        }
+        return distinct(Arrays.copyOf(grams, count));
+    }
+
+    /**
+     * Packs the trigrams of the text into the array from the given position, and returns the position after them.
+     */
+    private static int addGrams(String text, long[] grams, int count) {
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams[count++] = (long) Character.toLowerCase(text.charAt(i)) << 32
+                    | (long) Character.toLowerCase(text.charAt(i + 1)) << 16
+                    | Character.toLowerCase(text.charAt(i + 2));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the distinct values of the array in increasing order. The array is sorted in place.
+     */
+    private static long[] distinct(long[] values) {
+        Arrays.sort(values);
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (count == 0 || values[count - 1] != values[i]) {
+                values[count++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+}
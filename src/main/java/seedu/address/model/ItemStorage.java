@@ -1,40 +1,95 @@
 package seedu.address.model;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.core.item.Item;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentHashMap;
+import seedu.address.commons.util.PersistentIntMap;
 import seedu.address.model.person.exceptions.DuplicateItemException;
 
 /**
  * The central storage of all the items in the program.
+ * Every item is given a numeric ID when it is added. The ID stays with the item when it is replaced by an edited
+ * version, and IDs increase in the order the items were added. IDs are only valid for the lifetime of the storage,
+ * though a storage saved with its IDs can be made again with the same IDs, see {@link #fromItems(List, int[])}.
+ * The items are held in persistent maps, so a copy of the storage shares all of its items and indexes with the
+ * original and takes constant time to make, which keeps snapshots for undo cheap. Only the search indexes used by
+ * {@link #find(String...)} and {@link #fuzzyFind(String...)} are not shared, and a copy builds its own when it is
+ * first searched, unless it takes over the indexes of the storage it replaces, see
+ * {@link #takeSearchIndexesFrom(ItemStorage)}.
  */
 public class ItemStorage {
-    private ArrayList<Item> items = new ArrayList<>();
+    /**
+     * Maximum number of changes remembered since the last save. Beyond this the change log is dropped
+     * and the storage has to be written out in full.
+     */
+    public static final int MAX_PENDING_CHANGES = 10000;
+
+    // The items keyed by their ID, and so in the order in which they were added.
+    private PersistentIntMap<Item> items = PersistentIntMap.empty();
+    // The ID of every item in the storage, for lookups by value. Null until it is first needed if the storage was
+    // made from a list of items, so that lazy items are not decoded just to be indexed.
+    private PersistentHashMap<Item, Integer> ids = PersistentHashMap.empty();
+    private int nextId = 0;
+    // The indexes of the item text for find() and fuzzyFind(), each built the first time it is needed. Unlike the
+    // maps they are mutable, so they are not shared with copies of the storage.
+    private ItemSearchIndex searchIndex = null;
+    private ItemWordIndex wordIndex = null;
+    // Changes made since the last call to clearPendingChanges(), null if too many changes were made to keep track of.
+    private ArrayList<Change> pendingChanges = new ArrayList<>();
 
     /**
      * Adds an item to the item list.
      * @param item the item to be added to the item list.
+     * @return the ID given to the item.
      */
-    public void add(Item item) throws DuplicateItemException {
-        if (items.contains(item)) {
+    public int add(Item item) throws DuplicateItemException {
+        if (getIds().containsKey(item)) {
             throw new DuplicateItemException();
         }
-        items.add(item);
+        int id = nextId++;
+        items = items.put(id, item);
+        ids = getIds().put(item, id);
+        addToSearchIndexes(id, item);
+        recordChange(new Change(Change.Type.ADD, item, null));
+        return id;
     }
 
     /**
-     * Retrieve the item list.
+     * Retrieve a copy of the item list, in the order the items were added.
      * @return the item list.
      */
     public ArrayList<Item> getItems() {
-        return this.items;
+        ArrayList<Item> itemList = new ArrayList<>(items.size());
+        for (Item item : items) {
+            itemList.add(item);
+        }
+        return itemList;
+    }
+
+    /**
+     * Performs the action on every item together with its ID, in the order the items were added.
+     */
+    public void forEachItem(ObjIntConsumer<? super Item> action) {
+        items.forEachEntry(action);
     }
 
     /**
@@ -43,7 +98,26 @@ public class ItemStorage {
      * @return the item at that index.
      */
     public Item get(int index) {
-        return items.get(index);
+        return items.getAt(index);
+    }
+
+    /**
+     * Returns the ID of the item in the storage. If the item is not in the storage, an ID of -1 is returned.
+     * @param item the item to be searched for.
+     * @return the ID of the item.
+     */
+    public int getId(Item item) {
+        Integer id = getIds().get(item);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the item with the ID.
+     * @param id the ID of the item to be retrieved.
+     * @return the item with that ID, or an empty Optional if there is no such item in the storage.
+     */
+    public Optional<Item> getById(int id) {
+        return Optional.ofNullable(items.get(id));
     }
 
     /**
@@ -57,19 +131,25 @@ public class ItemStorage {
     /**
      * Returns if the storage already contains the item.
      * @param item the item to be searched for
-     * @return
+     * @return true if the item is in the storage.
      */
     public boolean contains(Item item) {
-        return items.contains(item);
+        return getIds().containsKey(item);
     }
 
     /**
      * Remove the item from within the storage.
      * @param item the item to be removed from the storage.
-     * @return
+     * @return the item given.
      */
     public Item remove(Item item) {
-        items.remove(item);
+        Integer id = getIds().get(item);
+        if (id != null) {
+            ids = getIds().remove(item);
+            items = items.remove(id);
+            removeFromSearchIndexes(id, item);
+            recordChange(new Change(Change.Type.REMOVE, item, null));
+        }
         return item;
     }
 
@@ -80,17 +160,311 @@ public class ItemStorage {
      * @return the index of the item in the storage.
      */
     public int indexOf(Item item) {
-        return items.indexOf(item);
+        Integer id = getIds().get(item);
+        return id == null ? -1 : items.indexOfKey(id);
     }
 
     /**
      * Set the item at the specific index to a new item.
      * @param index the index of the item to be replaced.
      * @param newItem the item to replace the old item.
-     * @return
+     * @return the item that was replaced.
      */
     public Item setItem(int index, Item newItem) {
-        return items.set(index, newItem);
+        Item oldItem = get(index);
+        replace(oldItem, newItem);
+        return oldItem;
+    }
+
+    /**
+     * Replaces an item with a new item, keeping its place in the storage and its ID.
+     * @param oldItem the item to be replaced.
+     * @param newItem the item to replace the old item.
+     * @return true if the old item was in the storage and has been replaced.
+     * @throws DuplicateItemException if the new item is another item already in the storage.
+     */
+    public boolean replace(Item oldItem, Item newItem) throws DuplicateItemException {
+        Integer id = getIds().get(oldItem);
+        if (id == null) {
+            return false;
+        }
+
+        Integer newItemId = getIds().get(newItem);
+        if (newItemId != null && !newItemId.equals(id)) {
+            throw new DuplicateItemException();
+        }
+
+        ids = getIds().remove(oldItem).put(newItem, id);
+        items = items.put(id, newItem);
+        removeFromSearchIndexes(id, oldItem);
+        addToSearchIndexes(id, newItem);
+        recordChange(new Change(Change.Type.SET, oldItem, newItem));
+        return true;
+    }
+
+    /**
+     * Finds the items whose description or tags contain any of the keywords, ignoring case.
+     * Keywords of at least {@link ItemSearchIndex#GRAM_LENGTH} characters are looked up in the search index, so only
+     * the items that have every trigram of the keyword are looked at.
+     * @param keywords the keywords to be searched for.
+     * @return the items found, in the order of their IDs.
+     */
+    public List<Item> find(String... keywords) {
+        return find(keywords, searched -> { });
+    }
+
+    /**
+     * Finds the items as {@link #find(String...)} does, telling the listener how many of the keywords have been
+     * searched for after each one. The listener may throw to stop the search.
+     */
+    public List<Item> find(String[] keywords, IntConsumer searchedListener) {
+        ItemSearchIndex index = getSearchIndex();
+        BitSet found = new BitSet();
+        for (int i = 0; i < keywords.length; i++) {
+            String keyword = keywords[i];
+            String lowerCaseKeyword = ItemSearchIndex.toLowerCase(keyword);
+            int[] candidates = index.getCandidates(lowerCaseKeyword);
+            if (candidates == null) {
+                items.forEachEntry((item, id) -> {
+                    if (!found.get(id) && ItemSearchIndex.matches(item, lowerCaseKeyword)) {
+                        found.set(id);
+                    }
+                });
+                searchedListener.accept(i + 1);
+                continue;
+            }
+            for (int id : candidates) {
+                if (!found.get(id) && ItemSearchIndex.matches(items.get(id), lowerCaseKeyword)) {
+                    found.set(id);
+                }
+            }
+            searchedListener.accept(i + 1);
+        }
+
+        List<Item> foundItems = new ArrayList<>(found.cardinality());
+        for (int id = found.nextSetBit(0); id >= 0; id = found.nextSetBit(id + 1)) {
+            foundItems.add(items.get(id));
+        }
+        return foundItems;
+    }
+
+    /**
+     * Finds the items with words that closely match any of the keywords, ignoring case, and ranks them by how well
+     * they match. A keyword matches a word of the description or a tag that it is the start of, or that it is within
+     * a small edit distance of, see {@link ItemWordIndex#find(String)}.
+     * @param keywords the keywords to be searched for.
+     * @return the items found. Items matching more of the keywords come first, then items matching them better,
+     *     then items in the order of their IDs.
+     */
+    public List<Item> fuzzyFind(String... keywords) {
+        return fuzzyFind(keywords, searched -> { });
+    }
+
+    /**
+     * Finds and ranks the items as {@link #fuzzyFind(String...)} does, telling the listener how many of the keywords
+     * have been searched for after each one. The listener may throw to stop the search.
+     */
+    public List<Item> fuzzyFind(String[] keywords, IntConsumer searchedListener) {
+        ItemWordIndex index = getWordIndex();
+        // The number of keywords matched and the total cost of the matches of each item found, by ID.
+        Map<Integer, int[]> scores = new HashMap<>();
+        for (int i = 0; i < keywords.length; i++) {
+            index.find(ItemSearchIndex.toLowerCase(keywords[i])).forEach((id, cost) -> {
+                int[] score = scores.computeIfAbsent(id, key -> new int[2]);
+                score[0]++;
+                score[1] += cost;
+            });
+            searchedListener.accept(i + 1);
+        }
+
+        List<Integer> foundIds = new ArrayList<>(scores.keySet());
+        foundIds.sort(Comparator.<Integer>comparingInt(id -> -scores.get(id)[0])
+                .thenComparingInt(id -> scores.get(id)[1])
+                .thenComparingInt(id -> id));
+        List<Item> foundItems = new ArrayList<>(foundIds.size());
+        for (int id : foundIds) {
+            foundItems.add(items.get(id));
+        }
+        return foundItems;
+    }
+
+    /**
+     * Makes the given change to this storage.
+     * @param change the change to be made, usually one recorded by another storage.
+     * @throws DuplicateItemException if the change adds an item that is already in the storage.
+     */
+    public void apply(Change change) throws DuplicateItemException {
+        switch (change.getType()) {
+        case ADD:
+            add(change.getItem());
+            break;
+        case REMOVE:
+            remove(change.getItem());
+            break;
+        case SET:
+            replace(change.getItem(), change.getNewItem());
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown change " + change.getType());
+        }
+    }
+
+    /**
+     * Returns the changes made to this storage since the last call to {@link #clearPendingChanges()}, in the order
+     * they were made. An empty {@code Optional} is returned if there were too many changes to keep track of,
+     * in which case the whole storage has to be treated as changed.
+     * @return the list of changes made since the changes were last cleared.
+     */
+    public Optional<List<Change>> getPendingChanges() {
+        if (pendingChanges == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Collections.unmodifiableList(pendingChanges));
+    }
+
+    /**
+     * Returns the index of the items by value, building it first if the storage does not have it yet.
+     * Any item equal to an item with a smaller ID is dropped while the index is built.
+     */
+    private PersistentHashMap<Item, Integer> getIds() {
+        if (ids != null) {
+            return ids;
+        }
+
+        PersistentHashMap<Item, Integer> newIds = PersistentHashMap.empty();
+        PersistentIntMap<Item> newItems = items;
+        int id = 0;
+        for (Item item : items) {
+            // The items of a storage made by fromItems(List) are keyed by their position.
+            if (newIds.containsKey(item)) {
+                newItems = newItems.remove(id);
+            } else {
+                newIds = newIds.put(item, id);
+            }
+            id++;
+        }
+        items = newItems;
+        ids = newIds;
+        return ids;
+    }
+
+    /**
+     * Returns the search index of the items, building it first if the storage does not have it yet.
+     */
+    private ItemSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            // Drop duplicate items first, so that only the items kept are indexed.
+            getIds();
+            ItemSearchIndex newSearchIndex = new ItemSearchIndex();
+            items.forEachEntry((item, id) -> newSearchIndex.add(id, item));
+            searchIndex = newSearchIndex;
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the word index of the items, building it first if the storage does not have it yet.
+     */
+    private ItemWordIndex getWordIndex() {
+        if (wordIndex == null) {
+            getIds();
+            ItemWordIndex newWordIndex = new ItemWordIndex();
+            items.forEachEntry((item, id) -> newWordIndex.add(id, item));
+            wordIndex = newWordIndex;
+        }
+        return wordIndex;
+    }
+
+    /**
+     * Indexes an item added under the ID in the search indexes that have been built.
+     */
+    private void addToSearchIndexes(int id, Item item) {
+        if (searchIndex != null) {
+            searchIndex.add(id, item);
+        }
+        if (wordIndex != null) {
+            wordIndex.add(id, item);
+        }
+    }
+
+    /**
+     * Removes an item removed from under the ID from the search indexes that have been built.
+     */
+    private void removeFromSearchIndexes(int id, Item item) {
+        if (searchIndex != null) {
+            searchIndex.remove(id, item);
+        }
+        if (wordIndex != null) {
+            wordIndex.remove(id, item);
+        }
+    }
+
+    /**
+     * Takes over the search indexes of the storage that this storage replaces, as the storage an undo restores
+     * replaces the one before the undo, so that they need not be built again. The indexes are brought up to date
+     * with this storage by indexing again only the items that differ between the two storages, and the replaced
+     * storage is left without them.
+     * @param replaced a storage whose IDs were given in the same way as this one's, which is not searched again.
+     */
+    public void takeSearchIndexesFrom(ItemStorage replaced) {
+        if (replaced.searchIndex == null && replaced.wordIndex == null) {
+            return;
+        }
+        getIds();
+        searchIndex = replaced.searchIndex;
+        wordIndex = replaced.wordIndex;
+        replaced.searchIndex = null;
+        replaced.wordIndex = null;
+        forEachDifference(replaced, (id, replacedItem, item) -> {
+            if (replacedItem != null) {
+                removeFromSearchIndexes(id, replacedItem);
+            }
+            if (item != null) {
+                addToSearchIndexes(id, item);
+            }
+        });
+    }
+
+    /**
+     * Tells the listener of each ID under which the other storage and this one do not hold the same item.
+     * The items are compared by reference, so this takes time linear in the number of items, but the items are not
+     * looked at, and a copy of this storage and the storage changed since the copy differ only in the items changed.
+     */
+    public void forEachDifference(ItemStorage other, DifferenceListener listener) {
+        items.forEachEntry((item, id) -> {
+            Item otherItem = other.items.get(id);
+            if (otherItem != item) {
+                listener.accept(id, otherItem, item);
+            }
+        });
+        other.items.forEachEntry((otherItem, id) -> {
+            if (!items.containsKey(id)) {
+                listener.accept(id, otherItem, null);
+            }
+        });
+    }
+
+    /**
+     * Forgets all the changes made so far, usually after they have been written out.
+     */
+    public void clearPendingChanges() {
+        pendingChanges = new ArrayList<>();
+    }
+
+    /**
+     * Helper function to remember a change until it is cleared.
+     * @param change the change made to the storage.
+     */
+    private void recordChange(Change change) {
+        if (pendingChanges == null) {
+            return;
+        }
+
+        if (pendingChanges.size() >= MAX_PENDING_CHANGES) {
+            pendingChanges = null;
+        } else {
+            pendingChanges.add(change);
+        }
     }
 
     /**
@@ -99,31 +473,92 @@ public class ItemStorage {
      * @throws JsonProcessingException
      */
     public String toJson() throws JsonProcessingException {
-        return JsonUtil.toJsonString(items);
+        ArrayList<Item> itemList = getItems();
+        itemList.replaceAll(Item::decode);
+        return JsonUtil.toJsonString(itemList);
     }
 
     /**
      * Creates the item storage from a json string.
      * @param jsonString the string representation of the item storage.
      * @return the item storage with all items added
-     * @throws IOException when the file cannot be read from
+     * @throws IOException when the string is not in JSON format
      * @throws DataConversionException when the item is not in a proper format
      */
     public static ItemStorage fromJson(String jsonString) throws IOException, DataConversionException {
+        try (JsonParser parser = JsonUtil.createParser(jsonString)) {
+            return fromJson(parser);
+        }
+    }
+
+    /**
+     * Creates the item storage from a stream of JSON, building each item as it is read so that neither the whole
+     * file nor a tree of its JSON nodes is ever held in memory.
+     * @param jsonStream the stream holding the JSON representation of the item storage. It is not closed.
+     * @return the item storage with all items added
+     * @throws IOException when the stream cannot be read from or is not in JSON format
+     * @throws DataConversionException when the item is not in a proper format
+     */
+    public static ItemStorage fromJson(InputStream jsonStream) throws IOException, DataConversionException {
+        try (JsonParser parser = JsonUtil.createParser(jsonStream)) {
+            return fromJson(parser);
+        }
+    }
+
+    /**
+     * Creates the item storage holding the items in the order given, without looking at them.
+     * The items are only indexed by value, which needs them to be decoded, when the storage is first searched
+     * for an item or changed, so the items can be lazy items that are decoded on demand.
+     * If an item is equal to an earlier item, it is dropped at that point.
+     * @param items the items of the storage.
+     * @return the item storage with all items added
+     */
+    public static ItemStorage fromItems(List<Item> items) {
         ItemStorage itemStorage = new ItemStorage();
-        JsonNode node = JsonUtil.getObjectMapper().readTree(jsonString);
-        Iterator<JsonNode> it = node.iterator();
-        while (it.hasNext()) {
-            String json = it.next().toString();
+        itemStorage.items = PersistentIntMap.ofSequence(items);
+        itemStorage.ids = null;
+        itemStorage.nextId = items.size();
+        return itemStorage;
+    }
+
+    /**
+     * Creates the item storage holding the items under the given IDs, for example IDs saved with the items to keep
+     * their order. Items added later are given IDs above all of these.
+     * @param items the items of the storage.
+     * @param itemIds the ID of each item, in increasing order.
+     * @return the item storage with all items added
+     * @throws IllegalArgumentException if the IDs are not in increasing order, or if two of the items are equal.
+     */
+    public static ItemStorage fromItems(List<Item> items, int[] itemIds) {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.items = PersistentIntMap.ofSorted(itemIds, items);
+        for (int i = 0; i < itemIds.length; i++) {
+            if (itemStorage.ids.containsKey(items.get(i))) {
+                throw new IllegalArgumentException("Duplicate item with ID " + itemIds[i]);
+            }
+            itemStorage.ids = itemStorage.ids.put(items.get(i), itemIds[i]);
+        }
+        itemStorage.nextId = itemIds.length == 0 ? 0 : itemIds[itemIds.length - 1] + 1;
+        return itemStorage;
+    }
+
+    /**
+     * Helper function to read the JSON array of items the parser is about to read.
+     */
+    private static ItemStorage fromJson(JsonParser parser) throws IOException, DataConversionException {
+        ItemStorage itemStorage = new ItemStorage();
+        JsonUtil.requireCurrentToken(parser, JsonToken.START_ARRAY);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
             try {
-                Item item = Item.fromJson(json);
+                Item item = Item.fromJson(parser);
                 itemStorage.add(item);
-            } catch (NullPointerException e) {
+            } catch (NullPointerException | IllegalArgumentException | DateTimeException e) {
                 throw new DataConversionException(e);
             } catch (DuplicateItemException e) {
                 System.out.println(e);
             }
         }
+        itemStorage.clearPendingChanges();
         return itemStorage;
     }
 
@@ -135,24 +570,74 @@ public class ItemStorage {
             if (!(other instanceof ItemStorage)) {
                 return false;
             } else {
-                return this.items.equals(((ItemStorage) other).items);
+                return getItems().equals(((ItemStorage) other).getItems());
             }
         }
     }
 
     /**
-     * Returns a deep copy of this item storage.
+     * Returns a deep copy of this item storage, holding the same items under the same IDs.
+     * The items and the maps holding them are immutable, so they are shared and the copy takes constant time.
      * @return deep copy of the item storage
      */
     public ItemStorage deepCopy() {
         ItemStorage itemStorage = new ItemStorage();
-        for (Item i : items) {
-            try {
-                itemStorage.add(i.deepCopy());
-            } catch (Exception e) {
-                // not supposed to happen
-            }
-        }
+        itemStorage.items = items;
+        itemStorage.ids = ids;
+        itemStorage.nextId = nextId;
         return itemStorage;
     }
+
+    /**
+     * Listens for the IDs under which two storages hold different items.
+     */
+    @FunctionalInterface
+    public interface DifferenceListener {
+        /**
+         * Tells of an ID under which the storages hold different items.
+         * @param otherItem the item under the ID in the other storage, or null if it has none.
+         * @param item the item under the ID in this storage, or null if it has none.
+         */
+        void accept(int id, Item otherItem, Item item);
+    }
+
+    /**
+     * A single change made to the item storage.
+     */
+    public static class Change {
+        /**
+         * The kinds of change that can be made to the storage.
+         */
+        public enum Type {
+            ADD, REMOVE, SET
+        }
+
+        private final Type type;
+        private final Item item;
+        private final Item newItem;
+
+        /**
+         * Creates a change.
+         * @param type the kind of change.
+         * @param item the item added or removed, or the item that was replaced for a SET.
+         * @param newItem the replacing item for a SET, null otherwise.
+         */
+        public Change(Type type, Item item, Item newItem) {
+            this.type = type;
+            this.item = item;
+            this.newItem = newItem;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        public Item getItem() {
+            return item;
+        }
+
+        public Item getNewItem() {
+            return newItem;
+        }
+    }
 }
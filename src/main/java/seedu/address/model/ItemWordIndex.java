@@ -0,0 +1,190 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A trie of the words of the item descriptions and of the tag names, in lower case, in which every word leads to
+ * the IDs of the items it appears in. A word of a description is a run of letters and digits.
+ * The trie answers fuzzy searches: a keyword matches a word if it is within a small edit distance of the word, or of
+ * the start of the word, so that words are found while they are still being typed and in spite of typos.
+ * The trie is walked once for each keyword. The edit distances from the keyword to the prefix of each node are
+ * worked out from those of its parent, and a branch is left as soon as it cannot hold a match.
+ */
+public class ItemWordIndex {
+    /** The cost of an item that does not match a keyword. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final Node root = new Node();
+
+    /**
+     * Indexes an item under its ID.
+     */
+    public void add(int id, Item item) {
+        for (String word : getWords(item)) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.getOrAddChild(word.charAt(i));
+            }
+            if (node.ids == null) {
+                node.ids = new PostingList();
+            }
+            node.ids.add(id);
+        }
+    }
+
+    /**
+     * Removes an item indexed under its ID. The nodes of words that no longer appear in any item are kept.
+     * @param item the item as it was when it was indexed.
+     */
+    public void remove(int id, Item item) {
+        for (String word : getWords(item)) {
+            Node node = root;
+            for (int i = 0; i < word.length() && node != null; i++) {
+                node = node.getChild(word.charAt(i));
+            }
+            if (node != null && node.ids != null) {
+                node.ids.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Returns the largest edit distance allowed between the keyword and a word it matches, which grows with the
+     * length of the keyword so that short keywords do not match nearly every word.
+     */
+    public static int getMaxDistance(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Finds the items with a word that matches the keyword, together with the cost of the best match in each item.
+     * A word within edit distance {@code d} of the keyword costs {@code 2 * d}, and a word that only starts with
+     * something within edit distance {@code d} of the keyword costs {@code 2 * d + 1}, so exact words come first,
+     * then completions of the keyword, then words with typos.
+     * @param keyword the keyword, in lower case.
+     * @return the cost of the best match in each item found, by the ID of the item.
+     */
+    public Map<Integer, Integer> find(String keyword) {
+        int maxDistance = getMaxDistance(keyword);
+        int[] firstRow = new int[keyword.length() + 1];
+        for (int i = 0; i < firstRow.length; i++) {
+            firstRow[i] = i;
+        }
+
+        Map<Integer, Integer> costs = new HashMap<>();
+        int prefixCost = keyword.length() <= maxDistance ? 2 * keyword.length() + 1 : NO_MATCH;
+        for (int i = 0; i < root.childCount; i++) {
+            find(root.children[i], root.labels[i], keyword, maxDistance, firstRow, prefixCost, costs);
+        }
+        return costs;
+    }
+
+    /**
+     * Finds the matches in the branch under the node reached by the given label.
+     * @param parentRow the edit distances from each prefix of the keyword to the prefix of the parent node.
+     * @param prefixCost the cost of the best match of the keyword with the start of the prefix of the parent node.
+     * @param costs the costs of the items found so far, to which the items found in this branch are added.
+     */
+    private static void find(Node node, char label, String keyword, int maxDistance, int[] parentRow, int prefixCost,
+            Map<Integer, Integer> costs) {
+        int[] row = new int[parentRow.length];
+        row[0] = parentRow[0] + 1;
+        int minDistance = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitution = parentRow[i - 1] + (keyword.charAt(i - 1) == label ? 0 : 1);
+            row[i] = Math.min(Math.min(row[i - 1], parentRow[i]) + 1, substitution);
+            minDistance = Math.min(minDistance, row[i]);
+        }
+
+        int distance = row[row.length - 1];
+        if (node.ids != null) {
+            int cost = distance <= maxDistance ? Math.min(2 * distance, prefixCost) : prefixCost;
+            if (cost != NO_MATCH) {
+                for (int i = 0; i < node.ids.size(); i++) {
+                    costs.merge(node.ids.get(i), cost, Math::min);
+                }
+            }
+        }
+
+        int childPrefixCost = distance <= maxDistance ? Math.min(2 * distance + 1, prefixCost) : prefixCost;
+        if (minDistance > maxDistance && childPrefixCost == NO_MATCH) {
+            // No word below can be close enough to the keyword, nor start with something close enough to it.
+            return;
+        }
+        for (int i = 0; i < node.childCount; i++) {
+            find(node.children[i], node.labels[i], keyword, maxDistance, row, childPrefixCost, costs);
+        }
+    }
+
+    /**
+     * Returns the distinct words of the description and the tags of the item, in lower case.
+     */
+    private static Set<String> getWords(Item item) {
+        Set<String> words = new HashSet<>();
+        String description = item.getItemDescription().getDescription();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= description.length(); i++) {
+            if (i < description.length() && Character.isLetterOrDigit(description.charAt(i))) {
+                word.append(Character.toLowerCase(description.charAt(i)));
+            } else if (word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        for (Tag tag : item.getTags()) {
+            words.add(ItemSearchIndex.toLowerCase(tag.tagName));
+        }
+        return words;
+    }
+
+    /**
+     * A node of the trie. The children are few, so they are kept in small arrays and looked through in order.
+     */
+    private static class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount = 0;
+        // The items with the word ending at this node, null if no item had it.
+        private PostingList ids = null;
+
+        /**
+         * Returns the child reached by the label, or null if there is none.
+         */
+        private Node getChild(char label) {
+            for (int i = 0; i < childCount; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the child reached by the label, adding it first if there is none.
+         */
+        private Node getOrAddChild(char label) {
+            Node child = getChild(label);
+            if (child != null) {
+                return child;
+            }
+            if (childCount == labels.length) {
+                labels = Arrays.copyOf(labels, Math.max(2, childCount * 2));
+                children = Arrays.copyOf(children, labels.length);
+            }
+            child = new Node();
+            labels[childCount] = label;
+            children[childCount++] = child;
+            return child;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+
+/**
+ * A sorted set of item IDs, held in an array, as kept by the search indexes of the item storage.
+ * IDs are usually added in increasing order, which only appends.
+ */
+class PostingList {
+    private int[] ids = new int[2];
+    private int size = 0;
+
+    /**
+     * Adds the ID, if it is not in the list yet.
+     */
+    void add(int id) {
+        if (size > 0 && ids[size - 1] >= id) {
+            insert(id);
+            return;
+        }
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    /**
+     * Inserts an ID that is not larger than every ID in the list, if it is not in the list yet.
+     */
+    private void insert(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return;
+        }
+        index = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, index, ids, index + 1, size - index);
+        ids[index] = id;
+        size++;
+    }
+
+    /**
+     * Removes the ID, if it is in the list.
+     */
+    void remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the ID at the position, counting from the smallest ID.
+     */
+    int get(int index) {
+        return ids[index];
+    }
+
+    /**
+     * Returns the position of the first ID not less than the given ID, looking from the given position on.
+     * The steps taken double until such an ID is passed, so seeking through the whole list in increasing steps
+     * takes time proportional to the number of seeks rather than to the size of the list.
+     */
+    int seek(int from, int id) {
+        int to = from;
+        int step = 1;
+        while (to < size && ids[to] < id) {
+            from = to + 1;
+            to += step;
+            step *= 2;
+        }
+        int index = Arrays.binarySearch(ids, from, Math.min(to + 1, size), id);
+        return index >= 0 ? index : -index - 1;
+    }
+}
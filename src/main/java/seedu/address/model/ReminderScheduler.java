@@ -0,0 +1,249 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Fires the reminders of the items when they fall due.
+ * The reminders wait in a {@link ReminderWheel}, which a single background thread advances every second, however
+ * many reminders are waiting. The items of the reminders that fall due are handed to a listener through an executor,
+ * such as one that runs them on the UI thread.
+ *
+ * Only the reminders due within a window of the next {@link #WINDOW} are kept in the wheel. The reminders are paged
+ * in from a snapshot of the item storage, on the background thread, as the window moves forward every
+ * {@link #PAGE_INTERVAL}. The earliest reminder beyond the window is remembered, so the snapshot is only looked
+ * through again once a reminder may have come into the window, and the reminders of an item storage are not looked
+ * at until the background thread is started.
+ * The reminders can be scheduled and cancelled from any thread, before or after the background thread is started.
+ * Reminders that had already passed when they were scheduled, or when their items were reset, do not fire.
+ */
+public class ReminderScheduler {
+    public static final Duration WINDOW = Duration.ofHours(24);
+    public static final Duration PAGE_INTERVAL = Duration.ofHours(1);
+
+    private static final Logger logger = LogsCenter.getLogger(ReminderScheduler.class);
+
+    private final Clock clock;
+    // The rest is guarded by this.
+    private final ReminderWheel wheel;
+    // The items the reminders are paged in from. Every reminder of these items due before the end of the window,
+    // and not yet passed, is in the wheel.
+    private ItemStorage source = new ItemStorage();
+    private long windowEnd;
+    // No reminder of the source beyond the window is due before this second, as far as is known.
+    private long earliestBeyondWindow = Long.MIN_VALUE;
+    // Counts the changes to the source and the wheel, so that a page read while they changed is thrown away.
+    private long version = 0;
+    private ScheduledExecutorService timer = null;
+    private Executor deliveryExecutor = null;
+    private Consumer<Item> listener = null;
+
+    public ReminderScheduler(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+        this.windowEnd = getCurrentSecond();
+        this.wheel = new ReminderWheel(windowEnd);
+    }
+
+    /**
+     * Cancels every reminder, and pages in the reminders of the given items from the start on the background thread.
+     * @param items a snapshot of the items, which must not be changed afterwards.
+     */
+    public synchronized void reset(ItemStorage items) {
+        requireNonNull(items);
+        wheel.clear();
+        source = items;
+        windowEnd = getCurrentSecond();
+        earliestBeyondWindow = Long.MIN_VALUE;
+        version++;
+    }
+
+    /**
+     * Replaces the items the reminders are paged in from, after the reminders of the items that changed have been
+     * scheduled or cancelled.
+     * @param items a snapshot of the items, which must not be changed afterwards.
+     */
+    public synchronized void setSource(ItemStorage items) {
+        requireNonNull(items);
+        source = items;
+        version++;
+    }
+
+    /**
+     * Schedules the reminder of an item under the item's ID, replacing the reminder scheduled under that ID, if any.
+     * A reminder beyond the window is left to be paged in.
+     * @param item an item with a reminder.
+     */
+    public synchronized void schedule(int id, Item item) {
+        long dueSecond = toSecond(item.getReminder().get().getDateTime());
+        if (dueSecond >= getCurrentSecond() && dueSecond < windowEnd) {
+            wheel.schedule(id, item, dueSecond);
+        } else {
+            wheel.cancel(id);
+            if (dueSecond >= windowEnd) {
+                earliestBeyondWindow = Math.min(earliestBeyondWindow, dueSecond);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Cancels the reminder scheduled under the ID, if any.
+     */
+    public synchronized void cancel(int id) {
+        wheel.cancel(id);
+        version++;
+    }
+
+    /**
+     * Returns the number of reminders waiting in the wheel.
+     */
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    /**
+     * Starts the background thread, which hands the item of each reminder that falls due from now on to the listener
+     * through the executor. Reminders that fell due since they were scheduled are handed over at once.
+     */
+    public synchronized void start(Executor deliveryExecutor, Consumer<Item> listener) {
+        requireNonNull(deliveryExecutor);
+        requireNonNull(listener);
+        if (timer != null) {
+            throw new IllegalStateException("The reminder scheduler has already been started");
+        }
+        this.deliveryExecutor = deliveryExecutor;
+        this.listener = listener;
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.scheduleAtFixedRate(this::fireDueReminders, 0, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the background thread. The reminders stay scheduled.
+     */
+    public synchronized void stop() {
+        if (timer != null) {
+            timer.shutdownNow();
+            timer = null;
+        }
+    }
+
+    /**
+     * Moves the window forward if it is due to move, paging in the reminders that come into it, and removes the
+     * reminders that have fallen due by now.
+     * @return the items of the reminders that fell due.
+     */
+    List<Item> pollDueReminders() {
+        pageIn();
+        synchronized (this) {
+            return wheel.advance(getCurrentSecond());
+        }
+    }
+
+    /**
+     * Hands the items of the reminders that have fallen due to the listener. Runs on the background thread.
+     */
+    private void fireDueReminders() {
+        try {
+            List<Item> dueItems = pollDueReminders();
+            Executor executor;
+            Consumer<Item> dueListener;
+            synchronized (this) {
+                executor = deliveryExecutor;
+                dueListener = listener;
+            }
+            for (Item item : dueItems) {
+                executor.execute(() -> dueListener.accept(item));
+            }
+        } catch (RuntimeException e) {
+            // An exception would stop the timer from running again.
+            logger.warning("Failed to fire the reminders " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Moves the end of the window to {@link #WINDOW} from now, if it has fallen {@link #PAGE_INTERVAL} behind that,
+     * and puts the reminders due up to the new end in the wheel. The source is looked through without holding the
+     * lock, so that scheduling is not held up, and is looked through again if it changed in the meantime.
+     */
+    private void pageIn() {
+        while (true) {
+            ItemStorage items;
+            long pageVersion;
+            long pageStart;
+            long pageEnd;
+            synchronized (this) {
+                pageStart = windowEnd;
+                pageEnd = getCurrentSecond() + WINDOW.getSeconds();
+                if (pageEnd - pageStart < PAGE_INTERVAL.getSeconds()) {
+                    return;
+                }
+                if (earliestBeyondWindow >= pageEnd) {
+                    // No reminder comes into the window.
+                    windowEnd = pageEnd;
+                    return;
+                }
+                items = source;
+                pageVersion = version;
+            }
+
+            List<Integer> pageIds = new ArrayList<>();
+            List<Item> pageItems = new ArrayList<>();
+            List<Long> pageDueSeconds = new ArrayList<>();
+            long[] earliestBeyondPage = {Long.MAX_VALUE};
+            items.forEachItem((item, id) -> {
+                if (!item.hasReminder()) {
+                    return;
+                }
+                long dueSecond = toSecond(item.getReminder().get().getDateTime());
+                if (dueSecond >= pageEnd) {
+                    earliestBeyondPage[0] = Math.min(earliestBeyondPage[0], dueSecond);
+                } else if (dueSecond >= pageStart) {
+                    pageIds.add(id);
+                    pageItems.add(item);
+                    pageDueSeconds.add(dueSecond);
+                }
+            });
+
+            synchronized (this) {
+                if (version != pageVersion) {
+                    continue;
+                }
+                for (int i = 0; i < pageIds.size(); i++) {
+                    wheel.schedule(pageIds.get(i), pageItems.get(i), pageDueSeconds.get(i));
+                }
+                windowEnd = pageEnd;
+                earliestBeyondWindow = earliestBeyondPage[0];
+                return;
+            }
+        }
+    }
+
+    private long getCurrentSecond() {
+        return toSecond(LocalDateTime.now(clock));
+    }
+
+    private static long toSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,181 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import seedu.address.commons.core.item.Item;
+
+/**
+ * A hierarchical timer wheel of the reminders waiting to fall due, counted in whole seconds.
+ * The wheel has five levels of 64 slots. A slot of the first level holds the reminders due in one second, and a slot
+ * of each level above spans the whole of the level below it, so the levels reach about 64 seconds, 68 minutes,
+ * 3 days, 194 days and 34 years ahead. A reminder is put in the lowest level that reaches its due time, and when
+ * the wheel comes to the start of a slot of a higher level, the reminders in that slot are moved down to the levels
+ * that now reach them. Reminders further ahead than the wheel reaches wait in its highest level until it does.
+ *
+ * Scheduling and cancelling a reminder take constant time, however many reminders are waiting, as each slot is a
+ * doubly linked list and each reminder is also found by its item ID. Every reminder is moved down at most once for
+ * each level, and the slots of each second are only looked at when the wheel reaches that second.
+ * The wheel is not thread-safe.
+ */
+public class ReminderWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int LEVEL_COUNT = 5;
+    /** The furthest a reminder can be placed ahead of the wheel, in seconds. */
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVEL_COUNT)) - 1;
+
+    private final Entry[][] slots = new Entry[LEVEL_COUNT][SLOT_COUNT];
+    private final HashMap<Integer, Entry> entries = new HashMap<>();
+    // The next second to be processed. Every second before it has been processed.
+    private long nextSecond;
+
+    /**
+     * Creates an empty wheel that processes the seconds from the given second on.
+     */
+    public ReminderWheel(long startSecond) {
+        this.nextSecond = startSecond;
+    }
+
+    /**
+     * Schedules a reminder of an item to fall due at the given second, replacing the reminder scheduled under the
+     * same ID, if any. A reminder due before the next second to be processed falls due in that second.
+     */
+    public void schedule(int id, Item item, long dueSecond) {
+        cancel(id);
+        Entry entry = new Entry(id, item, dueSecond);
+        entries.put(id, entry);
+        place(entry);
+    }
+
+    /**
+     * Cancels the reminder scheduled under the ID.
+     * @return true if there was such a reminder.
+     */
+    public boolean cancel(int id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Cancels every reminder.
+     */
+    public void clear() {
+        for (Entry[] levelSlots : slots) {
+            Arrays.fill(levelSlots, null);
+        }
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Processes every second up to the given second, removing the reminders that fall due in them.
+     * @return the items of the reminders that fell due, in the order of the seconds they fell due in.
+     */
+    public List<Item> advance(long toSecond) {
+        List<Item> dueItems = new ArrayList<>();
+        while (nextSecond <= toSecond) {
+            if (entries.isEmpty()) {
+                // Nothing can fall due, and a new reminder is placed relative to the next second anyway.
+                nextSecond = toSecond + 1;
+                break;
+            }
+            // Move the reminders down from the higher levels whose slots start at this second, highest first, so
+            // that reminders moved into a slot of a level below that also starts now are moved on as well.
+            int level = 0;
+            while (level < LEVEL_COUNT - 1 && (nextSecond & ((1L << (SLOT_BITS * (level + 1))) - 1)) == 0) {
+                level++;
+            }
+            for (; level > 0; level--) {
+                Entry entry = detach(level, getSlot(nextSecond, level));
+                while (entry != null) {
+                    Entry next = entry.next;
+                    place(entry);
+                    entry = next;
+                }
+            }
+
+            Entry entry = detach(0, getSlot(nextSecond, 0));
+            while (entry != null) {
+                entries.remove(entry.id);
+                dueItems.add(entry.item);
+                entry = entry.next;
+            }
+            nextSecond++;
+        }
+        return dueItems;
+    }
+
+    private static int getSlot(long second, int level) {
+        return (int) ((second >>> (SLOT_BITS * level)) & (SLOT_COUNT - 1));
+    }
+
+    /**
+     * Puts the entry in the slot of the lowest level that reaches its due time from the next second.
+     */
+    private void place(Entry entry) {
+        long delay = Math.min(Math.max(entry.dueSecond - nextSecond, 0), MAX_DELAY);
+        int level = 0;
+        while (level < LEVEL_COUNT - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = getSlot(nextSecond + delay, level);
+        entry.level = level;
+        entry.slot = slot;
+        entry.previous = null;
+        entry.next = slots[level][slot];
+        if (entry.next != null) {
+            entry.next.previous = entry;
+        }
+        slots[level][slot] = entry;
+    }
+
+    private void unlink(Entry entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            slots[entry.level][entry.slot] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+    }
+
+    /**
+     * Empties the slot.
+     * @return the first entry that was in the slot, from which the others can still be followed.
+     */
+    private Entry detach(int level, int slot) {
+        Entry first = slots[level][slot];
+        slots[level][slot] = null;
+        return first;
+    }
+
+    /**
+     * A scheduled reminder, linked into the list of its slot.
+     */
+    private static final class Entry {
+        private final int id;
+        private final Item item;
+        private final long dueSecond;
+        private int level;
+        private int slot;
+        private Entry previous;
+        private Entry next;
+
+        private Entry(int id, Item item, long dueSecond) {
+            this.id = id;
+            this.item = item;
+            this.dueSecond = dueSecond;
+        }
+    }
+}
@@ -1,38 +1,39 @@
 package seedu.address.model.item;
 
+import java.util.Comparator;
+import java.util.Set;
+
 import seedu.address.commons.core.item.Item;
 
 /**
  * Object class to store all the items that are events within the program
  */
 public class EventList extends VisualizeList {
+    /** The order of a sorted event list, by the start of the event. */
+    public static final Comparator<Item> SORT_ORDER = Comparator.comparing(item -> item.getEvent().get()
+            .getStartDateTime());
+
     public EventList() {
         super();
     }
 
     /**
-     * Sorts the event list based on the date of the event.
-     * @return a sorted EventList of the current list
+     * Sorts the event list in place based on the date of the event.
+     * @return this event list, sorted
      */
     public VisualizeList sort() {
-        EventList el = new EventList();
-        for (Item item: list) {
-            el.add(item);
-        }
-
-        el.list.sort((item1, item2) -> item1.getEvent().get().getStartDateTime()
-                .compareTo(item2.getEvent().get().getStartDateTime()));
-        return el;
+        sort(SORT_ORDER);
+        return this;
     }
 
     /**
-     * Finds a substring within the description of an item.
-     * @param searchString a string to be search for within the description of an item
-     * @return a new EventList only containing the items that have the search string in their description
+     * Finds the items of this list that are among the given items.
+     * @param foundItems the items to be kept, usually the result of a search of the item storage
+     * @return a new EventList only containing the items of this list that are among the given items, in the same order
      */
-    public VisualizeList find(String[] searchString) {
+    public VisualizeList find(Set<Item> foundItems) {
         EventList el = new EventList();
-        return find(searchString, el);
+        return find(foundItems, el);
     }
 
     @Override
@@ -1,38 +1,40 @@
 package seedu.address.model.item;
 
+import java.util.Comparator;
+import java.util.Set;
+
 import seedu.address.commons.core.item.Item;
 
 /**
  * Object class to store all the items that are reminders within the program
  */
 public class ReminderList extends VisualizeList {
+    /** The order of a sorted reminder list, by the time of the reminder. */
+    public static final Comparator<Item> SORT_ORDER = Comparator.comparing(item -> item.getReminder().get()
+            .getDateTime());
 
     public ReminderList() {
         super();
     }
 
     /**
-     * Sorts the Reminders by the date.
-     * @return a new ReminderList with the reminders within sorted.
+     * Sorts the Reminders by the date, in place.
+     * @return this ReminderList, with the reminders sorted.
      */
     public VisualizeList sort() {
-        ReminderList rl = new ReminderList();
-        for (Item i : list) {
-            rl.add(i);
-        }
-        rl.list.sort((item1, item2) -> item1.getReminder().get().getDateTime()
-                .compareTo(item2.getReminder().get().getDateTime()));
-        return rl;
+        sort(SORT_ORDER);
+        return this;
     }
 
     /**
-     * Finds a substring within the description of an item.
-     * @param searchString a string to be search for within the description of an item
-     * @return a new ReminderList only containing the items that have the search string in their description
+     * Finds the items of this list that are among the given items.
+     * @param foundItems the items to be kept, usually the result of a search of the item storage
+     * @return a new ReminderList only containing the items of this list that are among the given items,
+     *     in the same order
      */
-    public VisualizeList find(String[] searchString) {
+    public VisualizeList find(Set<Item> foundItems) {
         ReminderList rl = new ReminderList();
-        return super.find(searchString, rl);
+        return super.find(foundItems, rl);
     }
 
     @Override
@@ -1,5 +1,8 @@
 package seedu.address.model.item;
 
+import java.util.Comparator;
+import java.util.Set;
+
 import seedu.address.commons.core.item.Item;
 import seedu.address.commons.core.item.Task;
 
@@ -7,44 +10,41 @@ import seedu.address.commons.core.item.Task;
  * Object class to store all the items that are task within the program
  */
 public class TaskList extends VisualizeList {
+    /** The order of a sorted task list, with the tasks not done first and then by priority. */
+    public static final Comparator<Item> SORT_ORDER = (item1, item2) -> {
+        Task task1 = item1.getTask().get();
+        Task task2 = item2.getTask().get();
+        if (task1.isComplete() && !task2.isComplete()) {
+            return 1;
+        } else if (!task1.isComplete() && task2.isComplete()) {
+            return -1;
+        } else {
+            return task1.getPriority().compareTo(task2.getPriority());
+        }
+    };
+
     public TaskList() {
         super();
     }
 
     /**
-     * Sort the items in the task list. The items are first sorted by whether they are
+     * Sort the items in the task list in place. The items are first sorted by whether they are
      * done or not and then by their priority.
-     * @return an VisualizeList of all the items sorted
+     * @return this task list, with the items sorted
      */
     public VisualizeList sort() {
-        TaskList tl = new TaskList();
-        for (Item item: list) {
-            tl.add(item);
-        }
-
-        tl.list.sort((item1, item2) -> {
-            Task task1 = item1.getTask().get();
-            Task task2 = item2.getTask().get();
-            if (task1.isComplete() && !task2.isComplete()) {
-                return 1;
-            } else if (!task1.isComplete() && task2.isComplete()) {
-                return -1;
-            } else {
-                return task1.getPriority().compareTo(task2.getPriority());
-            }
-        });
-
-        return tl;
+        sort(SORT_ORDER);
+        return this;
     }
 
     /**
-     * Finds a substring within the description of an item.
-     * @param searchString a string to be search for within the description of an item
-     * @return a new TaskList containing only the items that have the search string in their description
+     * Finds the items of this list that are among the given items.
+     * @param foundItems the items to be kept, usually the result of a search of the item storage
+     * @return a new TaskList only containing the items of this list that are among the given items, in the same order
      */
-    public VisualizeList find(String[] searchString) {
+    public VisualizeList find(Set<Item> foundItems) {
         TaskList tl = new TaskList();
-        return find(searchString, tl);
+        return find(foundItems, tl);
     }
 
     @Override
@@ -1,12 +1,20 @@
 package seedu.address.model.item;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Set;
 
 import javafx.collections.ModifiableObservableListBase;
 import seedu.address.commons.core.item.Item;
 
 /**
  * An object to hold items. Parent class for TaskList, EventList and ReminderList.
+ * Every change made through the methods of the list is told to its listeners as precisely as it can be, so that a
+ * view of the list only redraws what changed: an item added, removed or replaced as that one change, a sort as a
+ * permutation, and a list cleared or refilled as one change. Changes made to the {@link #getList() backing list}
+ * directly are not told to the listeners, so only a list with no listeners should be changed that way.
  */
 public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
     protected ArrayList<Item> list;
@@ -20,7 +28,7 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
      * @param item the item to be added into the list
      */
     public boolean add(Item item) {
-        return list.add(item);
+        return super.add(item);
     }
 
     @Override
@@ -42,7 +50,7 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
      * @return the item that is removed from this operation
      */
     public Item remove(int index) {
-        return list.remove(index);
+        return super.remove(index);
     }
 
     /**
@@ -50,7 +58,10 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
      * @param item the item to be removed from the list
      */
     public void remove(Item item) {
-        list.remove(item);
+        int index = list.indexOf(item);
+        if (index >= 0) {
+            remove(index);
+        }
     }
 
     @Override
@@ -63,27 +74,19 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
         return list.remove(index);
     }
 
-    public abstract VisualizeList find(String[] searchString);
+    public abstract VisualizeList find(Set<Item> foundItems);
 
     /**
-     * Helper function to find an item based on their description.
-     * @param searchStrings an array of string to be search for within the description of an item
-     * @param il the item list that will hold the items that contain the string within its description
-     * @return the item list that was given with the found items added
+     * Helper function to keep the items of this list that were found by a search.
+     * @param foundItems the items to be kept, usually the result of a search of the item storage
+     * @param il the item list that will hold the items of this list that are among the found items
+     * @return the item list that was given with the found items added, in the order of this list
      */
-    protected VisualizeList find(String[] searchStrings, VisualizeList il) {
-        for (String searchString : searchStrings) {
-            for (Item i : list) {
-                if (il.contains(i)) {
-                    continue;
-                }
-
-                if (i.getItemDescription().getDescription().toLowerCase().contains(searchString.toLowerCase())) {
-                    il.add(i);
-                    System.out.println(i);
-                }
+    protected VisualizeList find(Set<Item> foundItems, VisualizeList il) {
+        for (Item i : list) {
+            if (foundItems.contains(i)) {
+                il.list.add(i);
             }
-
         }
         return il;
     }
@@ -91,18 +94,12 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
     public abstract VisualizeList deepCopy();
 
     /**
-     * Helper function to return a deep copy of the list.
+     * Helper function to return a deep copy of the list. Items are immutable, so they are shared with the copy.
      * @param vl the list to be returned
-     * @return
+     * @return the given list with all the items of this list added
      */
     protected VisualizeList deepCopy(VisualizeList vl) {
-        for (Item i : list) {
-            try {
-                vl.add(i.deepCopy());
-            } catch (Exception e) {
-                // not supposed to happen
-            }
-        }
+        vl.list.addAll(list);
         return vl;
     }
 
@@ -111,7 +108,7 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
     }
 
     public Item setItem(int index, Item item) {
-        return list.set(index, item);
+        return set(index, item);
     }
 
     /**
@@ -146,8 +143,88 @@ public abstract class VisualizeList extends ModifiableObservableListBase<Item> {
     }
 
     /**
-     * Sorts the items in the list.
-     * @return the item list in the sorted order
+     * Removes all the items from the list, as one change.
+     */
+    @Override
+    public void clear() {
+        if (list.isEmpty()) {
+            return;
+        }
+        if (!hasListeners()) {
+            list.clear();
+            return;
+        }
+        beginChange();
+        nextRemove(0, new ArrayList<>(list));
+        list.clear();
+        endChange();
+    }
+
+    /**
+     * Replaces all the items of the list with the given items, as one change.
+     * @param items the items the list is to hold, in order
+     * @return true
+     */
+    @Override
+    public boolean setAll(Collection<? extends Item> items) {
+        if (!hasListeners()) {
+            list.clear();
+            list.addAll(items);
+            return true;
+        }
+        ArrayList<Item> removed = new ArrayList<>(list);
+        list.clear();
+        list.addAll(items);
+        if (removed.isEmpty() && list.isEmpty()) {
+            return true;
+        }
+        beginChange();
+        if (removed.isEmpty()) {
+            nextAdd(0, list.size());
+        } else if (list.isEmpty()) {
+            nextRemove(0, removed);
+        } else {
+            nextReplace(0, list.size(), removed);
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * Sorts the items in the list in place, as one permutation of the items. The sort is stable.
+     * @param comparator the order to sort the items in
+     */
+    @Override
+    public void sort(Comparator<? super Item> comparator) {
+        if (!hasListeners()) {
+            list.sort(comparator);
+            return;
+        }
+        int size = list.size();
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (index1, index2) -> comparator.compare(list.get(index1), list.get(index2)));
+
+        // order holds the old index of the item at each new index, the permutation the new index of each old index.
+        Item[] sorted = new Item[size];
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = list.get(order[i]);
+            permutation[order[i]] = i;
+        }
+        beginChange();
+        for (int i = 0; i < size; i++) {
+            list.set(i, sorted[i]);
+        }
+        nextPermutation(0, size, permutation);
+        endChange();
+    }
+
+    /**
+     * Sorts the items in the list in place.
+     * @return this list, in the sorted order
      */
     public abstract VisualizeList sort();
 
@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ItemStorage;
+
+/**
+ * An item storage that writes through another item storage on a background thread, so that saving returns without
+ * waiting for the disk. Saves made while a write is still waiting to start are coalesced into that write.
+ *
+ * The background thread keeps its own copy of the items, to which it applies the changes taken from each saved
+ * {@link ItemStorage}, and saves that copy through the wrapped storage. A storage other than the one last saved,
+ * or one whose changes are no longer known, is written out in full instead.
+ * A write that fails is reported by the next call to {@link #saveItemStorage(ItemStorage)} or {@link #flush()},
+ * and the items are then written out in full again.
+ */
+public class BackgroundItemStorage implements ItemListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundItemStorage.class);
+
+    private final ItemListStorage itemListStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "item-storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The copy of the items saved through the wrapped storage. Only used on the background thread.
+    private ItemStorage savedItemStorage = null;
+
+    // The storage whose changes were last taken, and what is waiting to be written. Guarded by this.
+    private ItemStorage lastTaken = null;
+    private ItemStorage replacement = null;
+    private ArrayList<ItemStorage.Change> changes = new ArrayList<>();
+    private boolean isWriteScheduled = false;
+    private IOException writeFailure = null;
+
+    public BackgroundItemStorage(ItemListStorage itemListStorage) {
+        requireNonNull(itemListStorage);
+        this.itemListStorage = itemListStorage;
+    }
+
+    @Override
+    public Path getItemListFilePath() {
+        return itemListStorage.getItemListFilePath();
+    }
+
+    /**
+     * Takes the changes made to the given {@link ItemStorage} and schedules them to be written.
+     * @param itemStorage cannot be null.
+     * @throws IOException if an earlier write failed. The given storage is still scheduled to be written.
+     */
+    @Override
+    public synchronized void saveItemStorage(ItemStorage itemStorage) throws IOException {
+        requireNonNull(itemStorage);
+
+        IOException failure = writeFailure;
+        writeFailure = null;
+
+        Optional<List<ItemStorage.Change>> itemChanges = itemStorage.getPendingChanges();
+        if (failure != null || itemStorage != lastTaken || !itemChanges.isPresent()
+                || changes.size() + itemChanges.get().size() > ItemStorage.MAX_PENDING_CHANGES) {
+            // The copy is cheap as the items are held in persistent maps.
+            replacement = itemStorage.deepCopy();
+            changes = new ArrayList<>();
+        } else {
+            changes.addAll(itemChanges.get());
+        }
+        itemStorage.clearPendingChanges();
+        lastTaken = itemStorage;
+
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::write);
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Saves the given {@link ItemStorage} at the given path, waiting for it to be written.
+     * The path of this storage is saved in the background as in {@link #saveItemStorage(ItemStorage)}.
+     */
+    @Override
+    public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+        requireNonNull(itemStorage);
+        requireNonNull(filePath);
+
+        if (filePath.equals(getItemListFilePath())) {
+            saveItemStorage(itemStorage);
+            return;
+        }
+        itemListStorage.saveItemStorage(itemStorage, filePath);
+    }
+
+    /**
+     * Waits for every scheduled write to finish.
+     * @throws IOException if a write failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            // The executor runs its tasks in order, so every write scheduled before this task is done after it.
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the data file to be written", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        synchronized (this) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            if (failure != null) {
+                // Write everything out again on the next save.
+                lastTaken = null;
+                throw failure;
+            }
+        }
+        itemListStorage.flush();
+    }
+
+    /**
+     * Reads the items through the wrapped storage. The returned storage is then saved as changes on top of it.
+     */
+    @Override
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        flush();
+        ItemStorage loaded = itemListStorage.toModelType();
+        ItemStorage itemStorage = loaded.deepCopy();
+        synchronized (this) {
+            // Read by the background thread only in writes scheduled after this.
+            savedItemStorage = loaded;
+            lastTaken = itemStorage;
+            replacement = null;
+            changes = new ArrayList<>();
+        }
+        return itemStorage;
+    }
+
+    /**
+     * Writes out everything waiting to be written. Runs on the background thread.
+     */
+    private void write() {
+        ItemStorage toReplace;
+        List<ItemStorage.Change> toApply;
+        synchronized (this) {
+            toReplace = replacement;
+            toApply = changes;
+            replacement = null;
+            changes = new ArrayList<>();
+            isWriteScheduled = false;
+        }
+
+        try {
+            if (toReplace != null) {
+                savedItemStorage = toReplace;
+            }
+            for (ItemStorage.Change change : toApply) {
+                savedItemStorage.apply(change);
+            }
+            itemListStorage.saveItemStorage(savedItemStorage);
+        } catch (IOException | RuntimeException e) {
+            logger.severe("Failed to write the data file " + StringUtil.getDetails(e));
+            synchronized (this) {
+                writeFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,582 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Event;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.core.item.ItemDescription;
+import seedu.address.commons.core.item.Priority;
+import seedu.address.commons.core.item.Reminder;
+import seedu.address.commons.core.item.Task;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ItemStorage;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An item storage that keeps the items in a compact binary file.
+ *
+ * The file starts with {@link #MAGIC} and the format version, followed by a table of every tag name used, the number
+ * of items and then the items in order. Counts, enum ordinals and indexes into the tag table are written as
+ * variable length integers, and date times as the number of seconds since the epoch, zigzag encoded, followed by the
+ * nanoseconds. From version 2 the items are followed by an index holding the offset of every item in the file as
+ * an int and its kinds in a byte, and then by the offset of that index. The file ends with the CRC32 checksum of
+ * everything before it.
+ *
+ * The index lets {@link #fromMappedFile(Path)} read the items lazily, see {@link MappedItemStorage}.
+ */
+public class BinaryItemStorage implements ItemListStorage {
+
+    public static final byte[] MAGIC = {'E', 'L', 'S', 'B'};
+    public static final int VERSION = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryItemStorage.class);
+
+    private static final int FLAG_TASK = 1;
+    private static final int FLAG_EVENT = 1 << 1;
+    private static final int FLAG_REMINDER = 1 << 2;
+    private static final int FLAG_TASK_COMPLETE = 1 << 3;
+    private static final int ALL_FLAGS = FLAG_TASK | FLAG_EVENT | FLAG_REMINDER | FLAG_TASK_COMPLETE;
+    // Longer strings can only come from a damaged file, and are rejected before anything is allocated for them.
+    private static final int MAX_STRING_LENGTH = 1 << 20;
+    // The size of an entry of the index, and of the index offset and checksum at the end of the file.
+    private static final int INDEX_ENTRY_SIZE = Integer.BYTES + 1;
+    private static final int TRAILER_SIZE = 2 * Integer.BYTES;
+
+    private final Path itemListFilePath;
+
+    public BinaryItemStorage(Path path) {
+        this.itemListFilePath = path;
+    }
+
+    /**
+     * Returns the file path of the data file.
+     */
+    public Path getItemListFilePath() {
+        return itemListFilePath;
+    }
+
+    /**
+     * Saves the given {@link ItemStorage} to the storage.
+     * @param itemStorage cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+        saveItemStorage(itemStorage, itemListFilePath);
+    }
+
+    /**
+     * Saves the given {@link ItemStorage} to the storage.
+     * @param itemStorage cannot be null.
+     * @param filePath the path of the save file. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+        requireNonNull(itemStorage);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, toBinary(itemStorage));
+    }
+
+    /**
+     * Converts this binary item storage into the model's storage.
+     * @return an ItemStorage with all the items
+     * @throws IOException if there are any problem with reading from the file.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        try (InputStream binaryStream = Files.newInputStream(itemListFilePath)) {
+            return fromBinary(binaryStream);
+        } catch (DataConversionException e) {
+            logger.info("Data from save file corrupted.");
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if the file starts with {@link #MAGIC}, and so is likely to be a binary item file.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        try (InputStream stream = Files.newInputStream(filePath)) {
+            byte[] header = new byte[MAGIC.length];
+            int length = stream.readNBytes(header, 0, header.length);
+            return length == MAGIC.length && Arrays.equals(header, MAGIC);
+        }
+    }
+
+    /**
+     * Encodes the items in the storage into the binary format.
+     * @param itemStorage the items to be encoded.
+     * @return the content of the binary file.
+     */
+    public static byte[] toBinary(ItemStorage itemStorage) {
+        return toBinary(itemStorage.getItems());
+    }
+
+    /**
+     * Encodes the items into the binary format, in the order given.
+     * @param items the items to be encoded. No two of them may be equal.
+     * @return the content of the binary file.
+     */
+    public static byte[] toBinary(List<Item> items) {
+        List<String> tagNames = new ArrayList<>();
+        HashMap<String, Integer> tagIndexes = new HashMap<>();
+        for (Item item : items) {
+            for (Tag tag : item.getTags()) {
+                if (!tagIndexes.containsKey(tag.tagName)) {
+                    tagIndexes.put(tag.tagName, tagNames.size());
+                    tagNames.add(tag.tagName);
+                }
+            }
+        }
+
+        Encoder encoder = new Encoder();
+        encoder.writeBytes(MAGIC);
+        encoder.writeVarLong(VERSION);
+        encoder.writeVarLong(tagNames.size());
+        for (String tagName : tagNames) {
+            encoder.writeString(tagName);
+        }
+
+        encoder.writeVarLong(items.size());
+        int[] offsets = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            offsets[i] = encoder.size();
+            writeItem(encoder, items.get(i), tagIndexes);
+        }
+
+        int indexOffset = encoder.size();
+        for (int i = 0; i < items.size(); i++) {
+            encoder.writeInt(offsets[i]);
+            encoder.write(getFlags(items.get(i)));
+        }
+        encoder.writeInt(indexOffset);
+
+        CRC32 crc = new CRC32();
+        crc.update(encoder.buffer(), 0, encoder.size());
+        encoder.writeInt((int) crc.getValue());
+        return encoder.toByteArray();
+    }
+
+    /**
+     * Decodes the items in a binary file.
+     * @param binaryStream the stream holding the binary file. It is not closed.
+     * @return the item storage with all items added
+     * @throws IOException when the stream cannot be read from
+     * @throws DataConversionException when the content is not a valid binary item file
+     */
+    public static ItemStorage fromBinary(InputStream binaryStream) throws IOException, DataConversionException {
+        ItemStorage itemStorage = new ItemStorage();
+        for (Item item : readItems(binaryStream)) {
+            try {
+                itemStorage.add(item);
+            } catch (DuplicateItemException e) {
+                logger.warning("Ignoring duplicate item in the binary file");
+            }
+        }
+        itemStorage.clearPendingChanges();
+        return itemStorage;
+    }
+
+    /**
+     * Decodes the items in a binary file, in the order they were written.
+     * @param binaryStream the stream holding the binary file. It is not closed.
+     * @return the items in the file
+     * @throws IOException when the stream cannot be read from
+     * @throws DataConversionException when the content is not a valid binary item file
+     */
+    public static List<Item> readItems(InputStream binaryStream) throws IOException, DataConversionException {
+        CheckedInputStream checkedStream = new CheckedInputStream(new BufferedInputStream(binaryStream), new CRC32());
+        Decoder decoder = new Decoder(checkedStream);
+        try {
+            byte[] magic = decoder.readBytes(MAGIC.length);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new FormatException("Not a binary item file");
+            }
+            long version = decoder.readVarLong();
+            if (version != 1 && version != VERSION) {
+                throw new FormatException("Unsupported binary item file version " + version);
+            }
+
+            List<String> tagNames = readTagNames(decoder);
+            int itemCount = decoder.readCount();
+            // The count is not trusted with the size of the list, as it may come from a damaged file.
+            List<Item> items = new ArrayList<>();
+            for (int i = 0; i < itemCount; i++) {
+                items.add(readItem(decoder, tagNames));
+            }
+
+            if (version >= 2) {
+                // The index is only needed to read the items lazily.
+                for (int i = 0; i < itemCount; i++) {
+                    decoder.readBytes(INDEX_ENTRY_SIZE);
+                }
+                decoder.readInt();
+            }
+
+            long checksum = checkedStream.getChecksum().getValue();
+            if ((int) checksum != decoder.readInt()) {
+                throw new FormatException("Checksum of the binary item file does not match");
+            }
+            return items;
+        } catch (FormatException | EOFException | IllegalArgumentException | IndexOutOfBoundsException
+                | DateTimeException | ArithmeticException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads an item file into memory mapped from a private copy of the file, decoding only its header and index. The
+     * items are lazy items that are decoded from the mapped copy when they are first used.
+     * The checksum of the whole copy is checked first, which only reads the bytes, so that a damaged file is found
+     * while loading rather than when one of its items is first used. The copy cannot change after that.
+     * @param filePath the path of the file.
+     * @return the item storage holding the lazy items.
+     * @throws IOException when the file cannot be read from or copied.
+     * @throws DataConversionException when the checksum, the header or the index of the file is not valid, or when
+     *     the file was written in version 1 of the format, which has no index.
+     */
+    public static ItemStorage fromMappedFile(Path filePath) throws IOException, DataConversionException {
+        ByteBuffer buffer = mapPrivateCopy(filePath);
+
+        try {
+            ByteBuffer checkedBuffer = buffer.duplicate();
+            checkedBuffer.limit(buffer.limit() - Integer.BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(checkedBuffer);
+            if ((int) crc.getValue() != buffer.getInt(buffer.limit() - Integer.BYTES)) {
+                throw new FormatException("Checksum of the binary item file does not match");
+            }
+
+            Decoder decoder = new Decoder(new ByteBufferInputStream(buffer.duplicate()));
+            if (!Arrays.equals(decoder.readBytes(MAGIC.length), MAGIC)) {
+                throw new FormatException("Not a binary item file");
+            }
+            long version = decoder.readVarLong();
+            if (version != VERSION) {
+                throw new FormatException("Binary item file version " + version + " cannot be read lazily");
+            }
+            List<String> tagNames = readTagNames(decoder);
+            int itemCount = decoder.readCount();
+
+            int indexOffset = buffer.getInt(buffer.limit() - TRAILER_SIZE);
+            if (indexOffset < 0 || (long) indexOffset + (long) itemCount * INDEX_ENTRY_SIZE
+                    != buffer.limit() - TRAILER_SIZE) {
+                throw new FormatException("Index of the binary item file is damaged");
+            }
+
+            List<Item> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                int entry = indexOffset + i * INDEX_ENTRY_SIZE;
+                int offset = buffer.getInt(entry);
+                int flags = buffer.get(entry + Integer.BYTES);
+                if (offset < 0 || offset >= indexOffset || (flags & ~ALL_FLAGS) != 0
+                        || (flags & (FLAG_TASK | FLAG_EVENT | FLAG_REMINDER)) == 0) {
+                    throw new FormatException("Index of the binary item file is damaged");
+                }
+                items.add(Item.lazy((flags & FLAG_TASK) != 0, (flags & FLAG_EVENT) != 0,
+                        (flags & FLAG_REMINDER) != 0, () -> decodeAt(buffer, offset, flags, tagNames)));
+            }
+            return ItemStorage.fromItems(items);
+        } catch (FormatException | EOFException | IllegalArgumentException | IndexOutOfBoundsException
+                | ArithmeticException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Maps a copy of the file that is deleted once it is no longer mapped, or at once where the platform allows a
+     * mapped file to be deleted. The file itself is never mapped, so it can be replaced when the items are saved even
+     * on platforms that do not allow a mapped file to be replaced, and the items read are not changed by later writes
+     * to it.
+     */
+    private static ByteBuffer mapPrivateCopy(Path filePath) throws IOException {
+        Path copy = Files.createTempFile("items", ".bin");
+        try {
+            Files.copy(filePath, copy, StandardCopyOption.REPLACE_EXISTING);
+            try (FileChannel channel = FileChannel.open(copy, StandardOpenOption.READ,
+                    StandardOpenOption.DELETE_ON_CLOSE)) {
+                // The mapping stays valid after the channel is closed.
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(copy);
+            throw e;
+        }
+    }
+
+    /**
+     * Decodes the item at the offset of a mapped file, which the index says has the given flags.
+     * As the checksum of the file has been checked, the item can only fail to decode if it was written wrongly.
+     */
+    private static Item decodeAt(ByteBuffer buffer, int offset, int flags, List<String> tagNames) {
+        ByteBuffer itemBuffer = buffer.duplicate();
+        itemBuffer.position(offset);
+        Decoder decoder = new Decoder(new ByteBufferInputStream(itemBuffer));
+        try {
+            Item item = readItem(decoder, tagNames);
+            if (getFlags(item) != flags) {
+                throw new FormatException("Item does not match the index");
+            }
+            return item;
+        } catch (IOException | IllegalArgumentException | IndexOutOfBoundsException | DateTimeException
+                | ArithmeticException e) {
+            logger.severe("Data from save file corrupted at offset " + offset);
+            throw new IllegalStateException("The data file is damaged", e);
+        }
+    }
+
+    private static List<String> readTagNames(Decoder decoder) throws IOException {
+        int tagCount = decoder.readCount();
+        List<String> tagNames = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tagNames.add(decoder.readString());
+        }
+        return tagNames;
+    }
+
+    private static int getFlags(Item item) {
+        int flags = 0;
+        if (item.hasTask()) {
+            flags |= FLAG_TASK;
+            if (item.getTask().get().isComplete()) {
+                flags |= FLAG_TASK_COMPLETE;
+            }
+        }
+        if (item.hasEvent()) {
+            flags |= FLAG_EVENT;
+        }
+        if (item.hasReminder()) {
+            flags |= FLAG_REMINDER;
+        }
+        return flags;
+    }
+
+    private static void writeItem(Encoder encoder, Item item, HashMap<String, Integer> tagIndexes) {
+        encoder.writeVarLong(getFlags(item));
+        encoder.writeString(item.getItemDescription().getDescription());
+
+        if (item.hasTask()) {
+            encoder.writeVarLong(item.getTask().get().getPriority().ordinal());
+        }
+        if (item.hasEvent()) {
+            Event event = item.getEvent().get();
+            encoder.writeDateTime(event.getStartDateTime());
+            encoder.writeZigZag(event.getDuration().getSeconds());
+            encoder.writeVarLong(event.getDuration().getNano());
+            encoder.writeVarLong(event.getPriority().ordinal());
+        }
+        if (item.hasReminder()) {
+            encoder.writeDateTime(item.getReminder().get().getDateTime());
+        }
+
+        encoder.writeVarLong(item.getTags().size());
+        for (Tag tag : item.getTags()) {
+            encoder.writeVarLong(tagIndexes.get(tag.tagName));
+        }
+    }
+
+    private static Item readItem(Decoder decoder, List<String> tagNames) throws IOException {
+        int flags = decoder.readCount();
+        Item.ItemBuilder builder = new Item.ItemBuilder();
+        builder.setItemDescription(new ItemDescription(decoder.readString()));
+
+        if ((flags & FLAG_TASK) != 0) {
+            builder.setTask(new Task(readPriority(decoder), (flags & FLAG_TASK_COMPLETE) != 0));
+        }
+        if ((flags & FLAG_EVENT) != 0) {
+            LocalDateTime startDateTime = decoder.readDateTime();
+            Duration duration = Duration.ofSeconds(decoder.readZigZag(), decoder.readVarLong());
+            builder.setEvent(new Event(startDateTime, duration, readPriority(decoder)));
+        }
+        if ((flags & FLAG_REMINDER) != 0) {
+            builder.setReminder(new Reminder(decoder.readDateTime()));
+        }
+
+        int tagCount = decoder.readCount();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(tagNames.get(decoder.readCount())));
+        }
+        builder.setTags(tags);
+        return builder.build();
+    }
+
+    private static Priority readPriority(Decoder decoder) throws IOException {
+        return Priority.values()[decoder.readCount()];
+    }
+
+    /**
+     * Writes the primitive values of the binary format into a growing buffer.
+     */
+    private static class Encoder extends ByteArrayOutputStream {
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        /**
+         * Writes a non-negative value seven bits at a time, lowest bits first, setting the top bit of every byte
+         * except the last.
+         */
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        /**
+         * Writes a value that may be negative, mapping values close to zero to small unsigned values.
+         */
+        void writeZigZag(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            writeBytes(bytes);
+        }
+
+        void writeDateTime(LocalDateTime dateTime) {
+            writeZigZag(dateTime.toEpochSecond(ZoneOffset.UTC));
+            writeVarLong(dateTime.getNano());
+        }
+    }
+
+    /**
+     * Reads the primitive values of the binary format from a stream.
+     */
+    private static class Decoder {
+        private final DataInputStream stream;
+
+        Decoder(InputStream stream) {
+            this.stream = new DataInputStream(stream);
+        }
+
+        byte[] readBytes(int length) throws IOException {
+            byte[] bytes = new byte[length];
+            stream.readFully(bytes);
+            return bytes;
+        }
+
+        int readInt() throws IOException {
+            return stream.readInt();
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = stream.read();
+                if (b < 0) {
+                    throw new EOFException();
+                }
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new FormatException("Variable length integer is too long");
+        }
+
+        /**
+         * Reads a count or an index, which must fit in an int.
+         */
+        int readCount() throws IOException {
+            return Math.toIntExact(readVarLong());
+        }
+
+        long readZigZag() throws IOException {
+            long value = readVarLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() throws IOException {
+            int length = readCount();
+            if (length > MAX_STRING_LENGTH) {
+                throw new FormatException("String of length " + length + " is too long");
+            }
+            return new String(readBytes(length), StandardCharsets.UTF_8);
+        }
+
+        LocalDateTime readDateTime() throws IOException {
+            long epochSecond = readZigZag();
+            return LocalDateTime.ofEpochSecond(epochSecond, readCount(), ZoneOffset.UTC);
+        }
+    }
+
+    /**
+     * Reads from a byte buffer, such as a mapped file, through the stream interface the decoder uses.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            } else if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+
+    /**
+     * Signals that the content read is not in the binary format.
+     */
+    private static class FormatException extends IOException {
+        FormatException(String message) {
+            super(message);
+        }
+    }
+}
@@ -28,6 +28,15 @@ public interface ItemListStorage {
      */
     void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException;
 
+    /**
+     * Waits until every save made so far has been written to the data file.
+     * A storage that writes each save out before returning from it has nothing to wait for, which is what this does
+     * by default.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void flush() throws IOException {
+    }
+
     ItemStorage toModelType() throws IOException, DataConversionException;
 
 }
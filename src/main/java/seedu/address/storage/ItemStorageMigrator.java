@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.address.commons.core.ItemStorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ItemStorage;
+
+/**
+ * Converts a data file between the JSON and binary formats without losing any items.
+ * The format of the source file is detected from its content, and the target file is written in the other format.
+ * A data file that is not in the format chosen in the user prefs is converted in place when the app starts, see
+ * {@link #convert(Path, ItemStorageFormat, ItemStorageFormat)}.
+ *
+ * Usage: {@code java -cp addressbook.jar seedu.address.storage.ItemStorageMigrator SOURCE TARGET}
+ */
+public class ItemStorageMigrator {
+
+    public static final String MESSAGE_USAGE = "Usage: ItemStorageMigrator SOURCE TARGET\n"
+            + "Converts the data file SOURCE from JSON to binary or from binary to JSON, writing it to TARGET.";
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private ItemStorageMigrator() {
+    }
+
+    /**
+     * Returns the format of the data file, detected from its content. A binary data file is reported as
+     * {@link ItemStorageFormat#BINARY}, as the lazily read format writes the same files.
+     */
+    public static ItemStorageFormat detectFormat(Path filePath) throws IOException {
+        if (BinaryItemStorage.isBinaryFile(filePath)) {
+            return ItemStorageFormat.BINARY;
+        }
+        return ShardedItemStorage.isManifestFile(filePath) ? ItemStorageFormat.SHARDED : ItemStorageFormat.JSON;
+    }
+
+    /**
+     * Returns true if a storage of the given format reads data files of the detected format.
+     */
+    public static boolean canRead(ItemStorageFormat format, ItemStorageFormat fileFormat) {
+        return format == fileFormat || (format == ItemStorageFormat.MAPPED && fileFormat == ItemStorageFormat.BINARY);
+    }
+
+    /**
+     * Returns a storage that reads and writes data files of the given format at the given path.
+     * A JSON data file is read together with its journal, if it has one.
+     */
+    public static ItemListStorage createStorage(Path filePath, ItemStorageFormat format) {
+        switch (format) {
+        case BINARY:
+            return new BinaryItemStorage(filePath);
+        case MAPPED:
+            return new MappedItemStorage(filePath);
+        case SHARDED:
+            return new ShardedItemStorage(filePath);
+        case JSON:
+            return new JournalItemStorage(filePath);
+        default:
+            throw new IllegalArgumentException("Unknown data file format " + format);
+        }
+    }
+
+    /**
+     * Writes the items to a new data file of the given format. A JSON data file is written as a plain snapshot,
+     * which is read the same with or without a journal.
+     */
+    private static void save(ItemStorage itemStorage, Path filePath, ItemStorageFormat format) throws IOException {
+        if (format == ItemStorageFormat.JSON) {
+            new JsonItemStorage(filePath).saveItemStorage(itemStorage);
+        } else {
+            createStorage(filePath, format).saveItemStorage(itemStorage);
+        }
+    }
+
+    /**
+     * Rewrites the data file of the given format in another format at the same path. The items are first written in
+     * the format they were in to a backup file next to it, replacing any earlier backup of that format, so that
+     * nothing is lost if the items are not read back the same.
+     * @param filePath the data file.
+     * @param fileFormat the format the data file is in, see {@link #detectFormat(Path)}.
+     * @param format the format to write the data file in.
+     * @return the path of the backup.
+     * @throws IOException if the data file or the backup cannot be read from or written to.
+     * @throws DataConversionException if the data file is not a valid data file of its format, in which case it is
+     *     left as it is.
+     */
+    public static Path convert(Path filePath, ItemStorageFormat fileFormat, ItemStorageFormat format)
+            throws IOException, DataConversionException {
+        requireNonNull(filePath);
+        requireNonNull(fileFormat);
+        requireNonNull(format);
+
+        ItemStorage itemStorage = createStorage(filePath, fileFormat).toModelType();
+        Path backupPath = filePath.resolveSibling(filePath.getFileName() + "."
+                + fileFormat.name().toLowerCase(Locale.ROOT) + BACKUP_FILE_SUFFIX);
+        save(itemStorage, backupPath, fileFormat);
+        save(itemStorage, filePath, format);
+        return backupPath;
+    }
+
+    /**
+     * Reads the data file at {@code source} and writes it to {@code target} in the other format.
+     * @return the format the target was written in.
+     * @throws IOException if either file cannot be read from or written to.
+     * @throws DataConversionException if the source is not a valid data file.
+     */
+    public static ItemStorageFormat migrate(Path source, Path target) throws IOException, DataConversionException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        ItemStorageFormat sourceFormat = detectFormat(source);
+        ItemStorage itemStorage = createStorage(source, sourceFormat).toModelType();
+        ItemStorageFormat targetFormat =
+                sourceFormat == ItemStorageFormat.BINARY ? ItemStorageFormat.JSON : ItemStorageFormat.BINARY;
+
+        save(itemStorage, target, targetFormat);
+        return targetFormat;
+    }
+
+    /**
+     * Runs the migration from the command line.
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        try {
+            ItemStorageFormat targetFormat = migrate(Paths.get(args[0]), Paths.get(args[1]));
+            System.out.println("Wrote " + args[1] + " in the " + targetFormat + " format.");
+        } catch (IOException | DataConversionException e) {
+            System.err.println("Could not migrate " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
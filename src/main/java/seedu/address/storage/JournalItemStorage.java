@@ -0,0 +1,291 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ItemStorage;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+
+/**
+ * An item storage that keeps a JSON snapshot of all the items together with an append-only journal of the
+ * changes made since the snapshot was written. Saving only appends the changes to the journal, and the journal is
+ * compacted into a new snapshot once it grows past {@link #COMPACTION_THRESHOLD} records.
+ *
+ * The snapshot has the same format as the file written by {@link JsonItemStorage}. The first line of the journal
+ * holds the checksum of the snapshot it applies to, so a journal left behind by an interrupted compaction is
+ * recognised as stale and ignored.
+ */
+public class JournalItemStorage implements ItemListStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalItemStorage.class);
+
+    private static final String FIELD_SNAPSHOT = "snapshot";
+    private static final String FIELD_OPERATION = "op";
+    private static final String FIELD_ITEM = "item";
+    private static final String FIELD_NEW_ITEM = "newItem";
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path itemListFilePath;
+    private final Path journalFilePath;
+
+    // The storage whose state is currently on disk, and the number of records in the journal on top of the snapshot.
+    private ItemStorage lastSaved = null;
+    private int journalRecords = 0;
+    // Set when the journal ends in a damaged record, which must not have new records appended after it.
+    private boolean isJournalDamaged = false;
+
+    public JournalItemStorage(Path path) {
+        this.itemListFilePath = path;
+        this.journalFilePath = path.resolveSibling(path.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the file path of the data file.
+     */
+    public Path getItemListFilePath() {
+        return itemListFilePath;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Saves the changes made to the given {@link ItemStorage} since it was last saved or loaded.
+     * The whole storage is written out as a new snapshot instead if it is not the storage that was last saved,
+     * if its changes are no longer known, or if the journal has grown too long.
+     * @param itemStorage cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+        requireNonNull(itemStorage);
+
+        Optional<List<ItemStorage.Change>> changes = itemStorage.getPendingChanges();
+        if (itemStorage != lastSaved || !changes.isPresent()
+                || journalRecords + changes.get().size() > COMPACTION_THRESHOLD) {
+            compact(itemStorage);
+            return;
+        }
+
+        if (changes.get().isEmpty()) {
+            return;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (ItemStorage.Change change : changes.get()) {
+            records.append(toRecord(change)).append(System.lineSeparator());
+        }
+        try {
+            FileUtil.appendToFile(journalFilePath, records.toString());
+        } catch (IOException e) {
+            // The journal may now end in a partial record, so the next save has to write a fresh snapshot.
+            lastSaved = null;
+            throw e;
+        }
+        journalRecords += changes.get().size();
+        itemStorage.clearPendingChanges();
+    }
+
+    /**
+     * Saves the whole {@link ItemStorage} as a plain JSON file at the given path.
+     * If the path is the path of this storage, the changes are journalled as in {@link #saveItemStorage(ItemStorage)}.
+     * @param itemStorage cannot be null.
+     * @param filePath the path of the save file. Cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+        requireNonNull(itemStorage);
+        requireNonNull(filePath);
+
+        if (filePath.equals(itemListFilePath)) {
+            saveItemStorage(itemStorage);
+            return;
+        }
+
+        FileUtil.writeToFileAtomically(filePath, itemStorage.toJson());
+    }
+
+    /**
+     * Reads the snapshot and replays the journal on top of it.
+     * A journal that belongs to another snapshot is ignored, and so is a partially written last record.
+     * @return an ItemStorage with all the items
+     * @throws IOException if there are any problem with reading from the files.
+     * @throws DataConversionException if the snapshot is not in the correct format.
+     */
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        ItemStorage itemStorage;
+        long checksum;
+        try (CheckedInputStream snapshotStream =
+                     new CheckedInputStream(Files.newInputStream(itemListFilePath), new CRC32())) {
+            itemStorage = ItemStorage.fromJson(snapshotStream);
+            // The checksum has to cover whatever trails the JSON array as well.
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (snapshotStream.read(buffer) != -1) {
+                continue;
+            }
+            checksum = snapshotStream.getChecksum().getValue();
+        } catch (DataConversionException e) {
+            logger.info("Data from save file corrupted.");
+            throw e;
+        }
+
+        isJournalDamaged = false;
+        journalRecords = replayJournal(itemStorage, checksum);
+        if (isJournalDamaged) {
+            compact(itemStorage);
+        } else if (journalRecords < 0) {
+            // The journal is missing or stale, start a fresh one for the snapshot on disk.
+            writeJournalHeader(checksum);
+            journalRecords = 0;
+        }
+
+        itemStorage.clearPendingChanges();
+        lastSaved = itemStorage;
+        return itemStorage;
+    }
+
+    /**
+     * Writes the whole item storage out as a new snapshot and starts an empty journal for it.
+     * The snapshot replaces the old one atomically before the journal is reset, so a crash in between only leaves
+     * behind a journal whose checksum no longer matches.
+     */
+    private void compact(ItemStorage itemStorage) throws IOException {
+        byte[] snapshot = itemStorage.toJson().getBytes(StandardCharsets.UTF_8);
+        FileUtil.writeToFileAtomically(itemListFilePath, snapshot);
+        writeJournalHeader(checksumOf(snapshot));
+
+        journalRecords = 0;
+        itemStorage.clearPendingChanges();
+        lastSaved = itemStorage;
+    }
+
+    /**
+     * Replaces the journal with one that only holds the header for the snapshot with the given checksum.
+     */
+    private void writeJournalHeader(long checksum) throws IOException {
+        ObjectNode header = JsonUtil.getObjectMapper().createObjectNode();
+        header.put(FIELD_SNAPSHOT, checksum);
+        String headerLine = JsonUtil.getObjectMapper().writeValueAsString(header);
+        FileUtil.writeToFileAtomically(journalFilePath, headerLine + System.lineSeparator());
+    }
+
+    /**
+     * Applies the records in the journal to the item storage.
+     * @return the number of records applied, or -1 if there is no journal for the snapshot with the given checksum.
+     */
+    private int replayJournal(ItemStorage itemStorage, long checksum) throws IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return -1;
+        }
+
+        ObjectMapper mapper = JsonUtil.getObjectMapper();
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            if (line == null || mapper.readTree(line).path(FIELD_SNAPSHOT).asLong() != checksum) {
+                logger.info("Journal does not belong to the current snapshot, ignoring it.");
+                return -1;
+            }
+
+            int records = 0;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    applyRecord(itemStorage, line);
+                } catch (IOException | RuntimeException e) {
+                    // Only the last record can be partially written, as records are only ever appended.
+                    logger.warning("Ignoring unreadable journal record: " + e);
+                    isJournalDamaged = true;
+                    break;
+                }
+                records++;
+            }
+            return records;
+        }
+    }
+
+    /**
+     * Applies a single journal record to the item storage.
+     */
+    private static void applyRecord(ItemStorage itemStorage, String record) throws IOException {
+        ItemStorage.Change.Type type = null;
+        Item item = null;
+        Item newItem = null;
+
+        try (JsonParser parser = JsonUtil.createParser(record)) {
+            JsonUtil.requireCurrentToken(parser, JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case FIELD_OPERATION:
+                    type = ItemStorage.Change.Type.valueOf(parser.getValueAsString());
+                    break;
+                case FIELD_ITEM:
+                    item = Item.fromJson(parser);
+                    break;
+                case FIELD_NEW_ITEM:
+                    newItem = Item.fromJson(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        requireNonNull(type);
+        requireNonNull(item);
+        if (type == ItemStorage.Change.Type.SET) {
+            requireNonNull(newItem);
+        }
+        try {
+            itemStorage.apply(new ItemStorage.Change(type, item, newItem));
+        } catch (DuplicateItemException e) {
+            logger.warning("Journal adds an item that already exists: " + item);
+        }
+    }
+
+    /**
+     * Converts a change into a single line journal record.
+     */
+    private static String toRecord(ItemStorage.Change change) throws IOException {
+        ObjectMapper mapper = JsonUtil.getObjectMapper();
+        ObjectNode record = mapper.createObjectNode();
+        record.put(FIELD_OPERATION, change.getType().name());
+        record.set(FIELD_ITEM, mapper.valueToTree(change.getItem().decode()));
+        if (change.getNewItem() != null) {
+            record.set(FIELD_NEW_ITEM, mapper.valueToTree(change.getNewItem().decode()));
+        }
+        return mapper.writeValueAsString(record);
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
@@ -54,8 +56,7 @@ public class JsonItemStorage implements ItemListStorage {
         requireNonNull(itemStorage);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        FileUtil.writeToFile(filePath, itemStorage.toJson());
+        FileUtil.writeToFileAtomically(filePath, itemStorage.toJson());
     }
 
     /**
@@ -65,9 +66,8 @@ public class JsonItemStorage implements ItemListStorage {
      * @throws IOException if there are any problem with reading from the string.
      */
     public ItemStorage toModelType() throws IOException, DataConversionException {
-        String jsonString = FileUtil.readFromFile(itemListFilePath);
-        try {
-            return ItemStorage.fromJson(jsonString);
+        try (InputStream jsonStream = Files.newInputStream(itemListFilePath)) {
+            return ItemStorage.fromJson(jsonStream);
         } catch (DataConversionException e) {
             logger.info("Data from save file corrupted.");
             throw e;
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ItemStorage;
+
+/**
+ * A binary item storage that reads the data file lazily. A copy of the file is memory mapped and only its index is
+ * read when the items are loaded, so loading does not decode any item however many items the file holds. Each item
+ * is decoded from the mapped copy the first time it is used, for example when it is shown in a list or changed.
+ *
+ * The items are saved in full as in {@link BinaryItemStorage}. As only the private copy is mapped, the new file can
+ * replace the data file on every platform, and the copy stays readable until every lazy item read from it has been
+ * decoded. Files written in version 1 of the binary format have no index, and are read in full instead.
+ */
+public class MappedItemStorage extends BinaryItemStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedItemStorage.class);
+
+    public MappedItemStorage(Path path) {
+        super(path);
+    }
+
+    /**
+     * Reads the index of the data file, leaving the items to be decoded when they are used.
+     * @return an ItemStorage with all the items
+     * @throws IOException if there are any problem with reading from the file.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        try {
+            return BinaryItemStorage.fromMappedFile(getItemListFilePath());
+        } catch (DataConversionException e) {
+            logger.info("Data file cannot be read lazily, reading it in full.");
+            return super.toModelType();
+        }
+    }
+}
@@ -0,0 +1,499 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ItemStorage;
+
+/**
+ * An item storage that splits the items across several binary files, called shards, listed in a small JSON manifest
+ * kept at the path of the storage. Items with an event go into the shard for the month the event starts in, other
+ * items with a reminder into the shard for the month the reminder is due in, and the remaining tasks into a single
+ * shard of their own. The shard files are kept in a directory next to the manifest.
+ *
+ * A shard holds the IDs of its items followed by the items in the format of {@link BinaryItemStorage}, so the items
+ * are put back in their original order when the shards are read. A save only writes the shards whose items have
+ * changed, each to a new file, and then replaces the manifest, so a crash leaves either the old or the new shards in
+ * place. Shard files no longer listed in the manifest are deleted once it has been replaced.
+ */
+public class ShardedItemStorage implements ItemListStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final String TASK_SHARD = "tasks";
+    public static final String EVENT_SHARD_PREFIX = "events-";
+    public static final String REMINDER_SHARD_PREFIX = "reminders-";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedItemStorage.class);
+
+    private static final byte[] SHARD_MAGIC = {'E', 'L', 'S', 'H'};
+    private static final String SHARD_FILE_SUFFIX = ".bin";
+    // A shard file is named after its key and the generation of the manifest it was first listed in.
+    private static final Pattern SHARD_FILE_PATTERN = Pattern.compile("([a-z0-9+-]+)\\.(\\d+)\\.bin");
+
+    private static final String FIELD_GENERATION = "generation";
+    private static final String FIELD_SHARDS = "shards";
+    private static final String FIELD_KEY = "key";
+    private static final String FIELD_FILE = "file";
+    private static final String FIELD_COUNT = "count";
+    private static final String FIELD_CHECKSUM = "checksum";
+
+    private final Path itemListFilePath;
+
+    // The shards listed in the manifest on disk, by key, and the storage whose items they hold.
+    private TreeMap<String, Shard> shards = new TreeMap<>();
+    private ItemStorage lastSaved = null;
+
+    public ShardedItemStorage(Path path) {
+        this.itemListFilePath = path;
+    }
+
+    /**
+     * Returns the file path of the manifest.
+     */
+    public Path getItemListFilePath() {
+        return itemListFilePath;
+    }
+
+    public Path getShardDirectoryPath() {
+        return getShardDirectoryPath(itemListFilePath);
+    }
+
+    private static Path getShardDirectoryPath(Path manifestPath) {
+        return manifestPath.resolveSibling(manifestPath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the key of the shard the item is kept in.
+     */
+    public static String getShardKey(Item item) {
+        if (item.hasEvent()) {
+            return EVENT_SHARD_PREFIX + YearMonth.from(item.getEvent().get().getStartDateTime());
+        } else if (item.hasReminder()) {
+            return REMINDER_SHARD_PREFIX + YearMonth.from(item.getReminder().get().getDateTime());
+        } else {
+            return TASK_SHARD;
+        }
+    }
+
+    /**
+     * Saves the changes made to the given {@link ItemStorage} since it was last saved or loaded, writing only the
+     * shards of the items that changed. Every shard is looked at if the storage is not the one last saved or if
+     * its changes are no longer known, but even then only the shards whose content differs are written.
+     * @param itemStorage cannot be null.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+        requireNonNull(itemStorage);
+
+        Optional<List<ItemStorage.Change>> changes = itemStorage.getPendingChanges();
+        Set<String> changedKeys = null;
+        if (itemStorage == lastSaved && changes.isPresent()) {
+            if (changes.get().isEmpty()) {
+                return;
+            }
+            changedKeys = new HashSet<>();
+            for (ItemStorage.Change change : changes.get()) {
+                changedKeys.add(getShardKey(change.getItem()));
+                if (change.getNewItem() != null) {
+                    changedKeys.add(getShardKey(change.getNewItem()));
+                }
+            }
+        }
+
+        try {
+            shards = writeShards(itemListFilePath, shards, itemStorage, changedKeys);
+        } catch (IOException e) {
+            // Whatever was written is not listed in the manifest, so the next save has to look at every shard.
+            lastSaved = null;
+            throw e;
+        }
+        itemStorage.clearPendingChanges();
+        lastSaved = itemStorage;
+    }
+
+    /**
+     * Saves the given {@link ItemStorage} as a new set of shards with its manifest at the given path.
+     * If the path is the path of this storage, the changes are saved as in {@link #saveItemStorage(ItemStorage)}.
+     * @param itemStorage cannot be null.
+     * @param filePath the path of the manifest. Cannot be null.
+     * @throws IOException if there was any problem writing to the files.
+     */
+    public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+        requireNonNull(itemStorage);
+        requireNonNull(filePath);
+
+        if (filePath.equals(itemListFilePath)) {
+            saveItemStorage(itemStorage);
+            return;
+        }
+        writeShards(filePath, new TreeMap<>(), itemStorage, null);
+    }
+
+    /**
+     * Reads every shard listed in the manifest.
+     * @return an ItemStorage with all the items
+     * @throws IOException if there are any problem with reading from the files.
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    public ItemStorage toModelType() throws IOException, DataConversionException {
+        TreeMap<String, Shard> listedShards = readManifest(itemListFilePath);
+        ItemStorage itemStorage = readShards(listedShards, null);
+        shards = listedShards;
+        lastSaved = itemStorage;
+        return itemStorage;
+    }
+
+    /**
+     * Reads the tasks and the shards of the given month and the months after it, skipping the shards of earlier
+     * months without opening them. The storage returned is only for reading, as saving it would drop the items
+     * of the skipped months.
+     * @param fromMonth the earliest month to read the events and reminders of.
+     * @return an ItemStorage with the items in the shards read
+     * @throws IOException if there are any problem with reading from the files.
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    public ItemStorage toModelType(YearMonth fromMonth) throws IOException, DataConversionException {
+        requireNonNull(fromMonth);
+        return readShards(readManifest(itemListFilePath), fromMonth);
+    }
+
+    /**
+     * Returns true if the file holds a JSON object, as a manifest does, rather than the JSON array of the items that
+     * a JSON data file holds. Only the start of the file is read.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        try (InputStream stream = Files.newInputStream(filePath);
+                JsonParser parser = JsonUtil.createParser(stream)) {
+            return parser.nextToken() == JsonToken.START_OBJECT;
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the listed shards, leaving out those of months before {@code fromMonth} if it is not null, and puts
+     * their items back together in the order of their IDs.
+     */
+    private ItemStorage readShards(TreeMap<String, Shard> listedShards, YearMonth fromMonth)
+            throws IOException, DataConversionException {
+        Path shardDirectoryPath = getShardDirectoryPath();
+        List<int[]> shardIds = new ArrayList<>();
+        List<List<Item>> shardItems = new ArrayList<>();
+        int itemCount = 0;
+        for (Map.Entry<String, Shard> entry : listedShards.entrySet()) {
+            Optional<YearMonth> month = getMonth(entry.getKey());
+            if (fromMonth != null && month.isPresent() && month.get().isBefore(fromMonth)) {
+                continue;
+            }
+
+            Shard shard = entry.getValue();
+            Path shardPath = shardDirectoryPath.resolve(shard.file);
+            try (InputStream shardStream = new BufferedInputStream(Files.newInputStream(shardPath))) {
+                int[] ids = readShardIds(shardStream, Files.size(shardPath));
+                List<Item> items = BinaryItemStorage.readItems(shardStream);
+                if (ids.length != shard.count || items.size() != shard.count) {
+                    throw new DataConversionException(
+                            new IOException("Shard " + shard.file + " does not hold the items listed"));
+                }
+                shardIds.add(ids);
+                shardItems.add(items);
+                itemCount += items.size();
+            } catch (DataConversionException e) {
+                logger.info("Data from shard " + shard.file + " corrupted.");
+                throw e;
+            }
+        }
+
+        // Every shard is in the order of the IDs, so the shards are merged by always taking the smallest next ID.
+        int[] ids = new int[itemCount];
+        List<Item> items = new ArrayList<>(itemCount);
+        PriorityQueue<int[]> cursors = new PriorityQueue<>((cursor1, cursor2) ->
+                Integer.compare(shardIds.get(cursor1[0])[cursor1[1]], shardIds.get(cursor2[0])[cursor2[1]]));
+        for (int i = 0; i < shardIds.size(); i++) {
+            if (shardIds.get(i).length > 0) {
+                cursors.add(new int[] {i, 0});
+            }
+        }
+        while (!cursors.isEmpty()) {
+            int[] cursor = cursors.poll();
+            ids[items.size()] = shardIds.get(cursor[0])[cursor[1]];
+            items.add(shardItems.get(cursor[0]).get(cursor[1]));
+            if (++cursor[1] < shardIds.get(cursor[0]).length) {
+                cursors.add(cursor);
+            }
+        }
+
+        try {
+            return ItemStorage.fromItems(items, ids);
+        } catch (IllegalArgumentException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the month of the events or reminders in the shard with the key, or nothing for the task shard.
+     */
+    private static Optional<YearMonth> getMonth(String key) throws DataConversionException {
+        try {
+            if (key.startsWith(EVENT_SHARD_PREFIX)) {
+                return Optional.of(YearMonth.parse(key.substring(EVENT_SHARD_PREFIX.length())));
+            } else if (key.startsWith(REMINDER_SHARD_PREFIX)) {
+                return Optional.of(YearMonth.parse(key.substring(REMINDER_SHARD_PREFIX.length())));
+            }
+        } catch (DateTimeParseException e) {
+            throw new DataConversionException(e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Writes the shards of the given keys, or of every key if {@code changedKeys} is null, whose content differs
+     * from the shards already listed, and then the manifest listing them.
+     * @return the shards listed in the new manifest.
+     */
+    private static TreeMap<String, Shard> writeShards(Path manifestPath, TreeMap<String, Shard> oldShards,
+            ItemStorage itemStorage, Set<String> changedKeys) throws IOException {
+        Path shardDirectoryPath = getShardDirectoryPath(manifestPath);
+        Files.createDirectories(shardDirectoryPath);
+
+        // The items come in the order of their IDs, and so each shard gets them in that order.
+        TreeMap<String, List<Item>> shardItems = new TreeMap<>();
+        for (Item item : itemStorage.getItems()) {
+            String key = getShardKey(item);
+            if (changedKeys == null || changedKeys.contains(key)) {
+                shardItems.computeIfAbsent(key, unused -> new ArrayList<>()).add(item);
+            }
+        }
+
+        TreeMap<String, Shard> newShards = new TreeMap<>(oldShards);
+        if (changedKeys == null) {
+            newShards.keySet().retainAll(shardItems.keySet());
+        } else {
+            for (String key : changedKeys) {
+                if (!shardItems.containsKey(key)) {
+                    newShards.remove(key);
+                }
+            }
+        }
+        boolean isChanged = !newShards.keySet().equals(oldShards.keySet());
+
+        long generation = getLatestGeneration(shardDirectoryPath) + 1;
+        for (Map.Entry<String, List<Item>> entry : shardItems.entrySet()) {
+            List<Item> items = entry.getValue();
+            byte[] content = toShard(itemStorage, items);
+            long checksum = checksumOf(content);
+            Shard oldShard = newShards.get(entry.getKey());
+            if (oldShard != null && oldShard.count == items.size() && oldShard.checksum == checksum) {
+                continue;
+            }
+
+            String file = entry.getKey() + "." + generation + SHARD_FILE_SUFFIX;
+            FileUtil.writeToFileAtomically(shardDirectoryPath.resolve(file), content);
+            newShards.put(entry.getKey(), new Shard(file, items.size(), checksum));
+            isChanged = true;
+        }
+
+        if (isChanged || !FileUtil.isFileExists(manifestPath)) {
+            writeManifest(manifestPath, generation, newShards);
+        }
+        deleteUnlistedShards(shardDirectoryPath, newShards);
+        return newShards;
+    }
+
+    /**
+     * Encodes the items of a shard, taking their IDs from the item storage.
+     */
+    private static byte[] toShard(ItemStorage itemStorage, List<Item> items) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        output.write(SHARD_MAGIC);
+        output.writeInt(items.size());
+        for (Item item : items) {
+            output.writeInt(itemStorage.getId(item));
+        }
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        output.writeInt((int) crc.getValue());
+        output.write(BinaryItemStorage.toBinary(items));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the IDs at the start of a shard, leaving the stream at the items that follow them.
+     */
+    private static int[] readShardIds(InputStream shardStream, long shardSize)
+            throws IOException, DataConversionException {
+        CheckedInputStream checkedStream = new CheckedInputStream(shardStream, new CRC32());
+        DataInputStream input = new DataInputStream(checkedStream);
+        try {
+            byte[] magic = new byte[SHARD_MAGIC.length];
+            input.readFully(magic);
+            int count = input.readInt();
+            if (!Arrays.equals(magic, SHARD_MAGIC) || count < 0 || (long) count * Integer.BYTES > shardSize) {
+                throw new DataConversionException(new IOException("Not a shard file"));
+            }
+
+            int[] ids = new int[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = input.readInt();
+            }
+            long checksum = checkedStream.getChecksum().getValue();
+            if ((int) checksum != input.readInt()) {
+                throw new DataConversionException(new IOException("Checksum of the shard IDs does not match"));
+            }
+            return ids;
+        } catch (EOFException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the shards listed in the manifest at the path.
+     */
+    private static TreeMap<String, Shard> readManifest(Path manifestPath) throws IOException, DataConversionException {
+        TreeMap<String, Shard> listedShards = new TreeMap<>();
+        try {
+            JsonNode manifest = JsonUtil.getObjectMapper().readTree(FileUtil.readFromFile(manifestPath));
+            if (manifest == null || !manifest.path(FIELD_SHARDS).isArray()) {
+                throw new DataConversionException(new IOException("Not a shard manifest"));
+            }
+            for (JsonNode node : manifest.path(FIELD_SHARDS)) {
+                String key = node.path(FIELD_KEY).asText();
+                String file = node.path(FIELD_FILE).asText();
+                Matcher matcher = SHARD_FILE_PATTERN.matcher(file);
+                if (!matcher.matches() || !matcher.group(1).equals(key) || listedShards.containsKey(key)) {
+                    throw new DataConversionException(new IOException("Manifest lists an invalid shard " + file));
+                }
+                getMonth(key);
+                listedShards.put(key, new Shard(file, node.path(FIELD_COUNT).asInt(),
+                        node.path(FIELD_CHECKSUM).asLong()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new DataConversionException(e);
+        }
+        return listedShards;
+    }
+
+    /**
+     * Replaces the manifest with one listing the given shards.
+     */
+    private static void writeManifest(Path manifestPath, long generation, TreeMap<String, Shard> listedShards)
+            throws IOException {
+        ObjectMapper mapper = JsonUtil.getObjectMapper();
+        ObjectNode manifest = mapper.createObjectNode();
+        manifest.put(FIELD_GENERATION, generation);
+        ArrayNode shardNodes = manifest.putArray(FIELD_SHARDS);
+        for (Map.Entry<String, Shard> entry : listedShards.entrySet()) {
+            ObjectNode shardNode = shardNodes.addObject();
+            shardNode.put(FIELD_KEY, entry.getKey());
+            shardNode.put(FIELD_FILE, entry.getValue().file);
+            shardNode.put(FIELD_COUNT, entry.getValue().count);
+            shardNode.put(FIELD_CHECKSUM, entry.getValue().checksum);
+        }
+        String manifestJson = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(manifest);
+        FileUtil.writeToFileAtomically(manifestPath, manifestJson);
+    }
+
+    /**
+     * Returns the highest generation of the shard files in the directory, so that new shard files never replace
+     * a file that a manifest may still list.
+     */
+    private static long getLatestGeneration(Path shardDirectoryPath) throws IOException {
+        long generation = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectoryPath)) {
+            for (Path file : files) {
+                Matcher matcher = SHARD_FILE_PATTERN.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    try {
+                        generation = Math.max(generation, Long.parseLong(matcher.group(2)));
+                    } catch (NumberFormatException e) {
+                        continue;
+                    }
+                }
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Deletes the shard files in the directory that the manifest no longer lists.
+     */
+    private static void deleteUnlistedShards(Path shardDirectoryPath, TreeMap<String, Shard> listedShards) {
+        Set<String> listedFiles = new HashSet<>();
+        for (Shard shard : listedShards.values()) {
+            listedFiles.add(shard.file);
+        }
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectoryPath, "*" + SHARD_FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (!listedFiles.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            // The files are deleted again after the next save.
+            logger.warning("Failed to delete old shard files " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * A shard as listed in the manifest.
+     */
+    private static class Shard {
+        private final String file;
+        private final int count;
+        private final long checksum;
+
+        Shard(String file, int count, long checksum) {
+            this.file = file;
+            this.count = count;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -64,6 +64,11 @@ public class StorageManager implements Storage {
         itemListStorage.saveItemStorage(itemStorage, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        itemListStorage.flush();
+    }
+
     public ItemStorage toModelType() throws IOException, DataConversionException {
         return itemListStorage.toModelType();
     }
@@ -0,0 +1,355 @@
+package seedu.address.ui;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.geometry.Insets;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.ColumnConstraints;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.RowConstraints;
+import javafx.scene.layout.VBox;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Item;
+import seedu.address.model.CalendarLayout;
+import seedu.address.model.CalendarLayout.Slot;
+
+/**
+ * Panel showing the events in a calendar, a week or a month at a time.
+ * Only the events of the days shown are looked up, through the {@link EventFinder}, so paging through the calendar
+ * takes time for the events shown rather than for all the events. The nodes showing the events are kept as the
+ * calendar is paged and given the events of the new days, so new nodes are only made when more events are shown at
+ * once than ever before. In the week view, the events that overlap are put side by side as laid out by
+ * {@link CalendarLayout}.
+ */
+public class CalendarPanel extends UiPart<Region> {
+
+    private static final String FXML = "CalendarPanel.fxml";
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int WEEKS_IN_MONTH_VIEW = 6;
+    private static final int HOURS_IN_DAY = 24;
+    private static final double HOUR_HEIGHT = 40;
+    private static final double TIME_AXIS_WIDTH = 45;
+    private static final int MAX_EVENTS_SHOWN_PER_DAY = 3;
+    /** The least time an event is shown to take up in the week view, so that there is room for its description. */
+    private static final Duration MINIMUM_WEEK_DURATION = Duration.ofMinutes(30);
+    /** The least time an event is taken to take up in the month view, so that an event without a duration shows. */
+    private static final Duration MINIMUM_MONTH_DURATION = Duration.ofSeconds(1);
+    private static final DateTimeFormatter WEEK_DAY_FORMAT = DateTimeFormatter.ofPattern("EEE d/M");
+    private static final DateTimeFormatter MONTH_DAY_FORMAT = DateTimeFormatter.ofPattern("EEE");
+    private static final DateTimeFormatter WEEK_RANGE_FORMAT = DateTimeFormatter.ofPattern("d MMM yyyy");
+    private static final DateTimeFormatter MONTH_RANGE_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy");
+    private static final String MESSAGE_MORE_EVENTS = "+%1$d more";
+
+    private final Logger logger = LogsCenter.getLogger(CalendarPanel.class);
+    private final EventFinder eventFinder;
+    private final Label[] dayHeaderLabels = new Label[DAYS_IN_WEEK];
+    private final Label[] hourLabels = new Label[HOURS_IN_DAY];
+    private final List<Label> weekEventNodes = new ArrayList<>();
+    private final MonthDayCell[] monthDayCells = new MonthDayCell[DAYS_IN_WEEK * WEEKS_IN_MONTH_VIEW];
+    private List<Slot> weekSlots = Collections.emptyList();
+    private LocalDate shownDate = LocalDate.now();
+    private boolean isMonthView = false;
+    /** The number of lookups made, by which the events found by any but the last are dropped. */
+    private int lookups = 0;
+
+    @FXML
+    private Label rangeLabel;
+    @FXML
+    private GridPane dayHeaders;
+    @FXML
+    private ScrollPane weekScrollPane;
+    @FXML
+    private Pane weekPane;
+    @FXML
+    private GridPane monthGrid;
+
+    public CalendarPanel(EventFinder eventFinder) {
+        super(FXML);
+        this.eventFinder = eventFinder;
+        makeDayHeaders();
+        makeWeekView();
+        makeMonthView();
+        // Only the nodes already made are moved as the width changes, without looking up the events again.
+        weekPane.widthProperty().addListener((unused) -> placeWeekSlots());
+        showView();
+    }
+
+    /**
+     * Looks up the events of the days shown again, and shows them.
+     */
+    public void refresh() {
+        if (isMonthView) {
+            refreshMonth();
+        } else {
+            refreshWeek();
+        }
+    }
+
+    @FXML
+    private void handlePrevious() {
+        shownDate = isMonthView ? shownDate.minusMonths(1) : shownDate.minusWeeks(1);
+        refresh();
+    }
+
+    @FXML
+    private void handleNext() {
+        shownDate = isMonthView ? shownDate.plusMonths(1) : shownDate.plusWeeks(1);
+        refresh();
+    }
+
+    @FXML
+    private void handleToday() {
+        shownDate = LocalDate.now();
+        refresh();
+    }
+
+    @FXML
+    private void handleWeek() {
+        isMonthView = false;
+        showView();
+    }
+
+    @FXML
+    private void handleMonth() {
+        isMonthView = true;
+        showView();
+    }
+
+    /**
+     * Shows the nodes of the week or the month view, and hides those of the other.
+     */
+    private void showView() {
+        weekScrollPane.setVisible(!isMonthView);
+        weekScrollPane.setManaged(!isMonthView);
+        monthGrid.setVisible(isMonthView);
+        monthGrid.setManaged(isMonthView);
+        // The days of the week view are to the right of the hours.
+        dayHeaders.setPadding(new Insets(0, 0, 0, isMonthView ? 0 : TIME_AXIS_WIDTH));
+        refresh();
+    }
+
+    private void makeDayHeaders() {
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            dayHeaderLabels[day] = new Label();
+            dayHeaders.add(dayHeaderLabels[day], day, 0);
+            dayHeaders.getColumnConstraints().add(evenColumn());
+        }
+    }
+
+    private void makeWeekView() {
+        weekPane.setPrefHeight(HOURS_IN_DAY * HOUR_HEIGHT);
+        weekPane.setMinHeight(HOURS_IN_DAY * HOUR_HEIGHT);
+        for (int hour = 0; hour < HOURS_IN_DAY; hour++) {
+            hourLabels[hour] = new Label(String.format("%02d:00", hour));
+            hourLabels[hour].getStyleClass().add("calendar-hour");
+            hourLabels[hour].setLayoutY(hour * HOUR_HEIGHT);
+            hourLabels[hour].setPrefHeight(HOUR_HEIGHT);
+            weekPane.getChildren().add(hourLabels[hour]);
+        }
+    }
+
+    private void makeMonthView() {
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            monthGrid.getColumnConstraints().add(evenColumn());
+        }
+        for (int week = 0; week < WEEKS_IN_MONTH_VIEW; week++) {
+            RowConstraints row = new RowConstraints();
+            row.setPercentHeight(100.0 / WEEKS_IN_MONTH_VIEW);
+            monthGrid.getRowConstraints().add(row);
+            for (int day = 0; day < DAYS_IN_WEEK; day++) {
+                MonthDayCell cell = new MonthDayCell();
+                monthDayCells[week * DAYS_IN_WEEK + day] = cell;
+                monthGrid.add(cell.box, day, week);
+            }
+        }
+    }
+
+    private static ColumnConstraints evenColumn() {
+        ColumnConstraints column = new ColumnConstraints();
+        column.setPercentWidth(100.0 / DAYS_IN_WEEK);
+        return column;
+    }
+
+    /**
+     * Looks up and lays out the events of the week of the date shown, from its Monday.
+     */
+    private void refreshWeek() {
+        LocalDate firstDay = shownDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        rangeLabel.setText(firstDay.format(WEEK_RANGE_FORMAT) + " - "
+                + firstDay.plusDays(DAYS_IN_WEEK - 1).format(WEEK_RANGE_FORMAT));
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            dayHeaderLabels[day].setText(firstDay.plusDays(day).format(WEEK_DAY_FORMAT));
+        }
+        findEvents(firstDay, DAYS_IN_WEEK, items -> {
+            weekSlots = CalendarLayout.layOut(items, firstDay, DAYS_IN_WEEK, MINIMUM_WEEK_DURATION);
+            placeWeekSlots();
+        });
+    }
+
+    /**
+     * Places a node for each slot of the week at the time of the slot, in the column it was given within its day.
+     * The nodes left over are hidden.
+     */
+    private void placeWeekSlots() {
+        double width = weekPane.getWidth();
+        double dayWidth = (width - TIME_AXIS_WIDTH) / DAYS_IN_WEEK;
+        for (Label hourLabel : hourLabels) {
+            hourLabel.setPrefWidth(width);
+        }
+
+        int shown = 0;
+        for (Slot slot : weekSlots) {
+            Label node = getWeekEventNode(shown++);
+            LocalDateTime dayStart = slot.getStart().toLocalDate().atStartOfDay();
+            double top = Duration.between(dayStart, slot.getStart()).toMinutes() * HOUR_HEIGHT / 60;
+            double bottom = Duration.between(dayStart, slot.getEnd()).toMinutes() * HOUR_HEIGHT / 60;
+            double columnWidth = dayWidth / slot.getColumns();
+            node.setText(slot.getItem().getItemDescription().toString());
+            node.setLayoutX(TIME_AXIS_WIDTH + slot.getDay() * dayWidth + slot.getColumn() * columnWidth);
+            node.setLayoutY(top);
+            node.setPrefSize(columnWidth, bottom - top);
+            node.setVisible(true);
+        }
+        for (int i = shown; i < weekEventNodes.size(); i++) {
+            weekEventNodes.get(i).setVisible(false);
+        }
+    }
+
+    /**
+     * Returns the node at the index in the pool of nodes for the events of the week view, making it if there are not
+     * that many nodes yet.
+     */
+    private Label getWeekEventNode(int index) {
+        if (index < weekEventNodes.size()) {
+            return weekEventNodes.get(index);
+        }
+        Label node = new Label();
+        node.getStyleClass().add("calendar-event");
+        node.setMinSize(0, 0);
+        weekEventNodes.add(node);
+        weekPane.getChildren().add(node);
+        return node;
+    }
+
+    /**
+     * Looks up the events of the weeks that cover the month of the date shown, from the Monday of its first week, and
+     * lists the first few of each day in its cell.
+     */
+    private void refreshMonth() {
+        LocalDate firstOfMonth = shownDate.withDayOfMonth(1);
+        LocalDate firstDay = firstOfMonth.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        int days = monthDayCells.length;
+        rangeLabel.setText(firstOfMonth.format(MONTH_RANGE_FORMAT));
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            dayHeaderLabels[day].setText(firstDay.plusDays(day).format(MONTH_DAY_FORMAT));
+        }
+
+        findEvents(firstDay, days, items -> {
+            List<Slot> slots = CalendarLayout.layOut(items, firstDay, days, MINIMUM_MONTH_DURATION);
+            // The slots are in the order of their days, so each cell takes the slots up to the first of the next day.
+            int next = 0;
+            for (int day = 0; day < days; day++) {
+                int end = next;
+                while (end < slots.size() && slots.get(end).getDay() == day) {
+                    end++;
+                }
+                LocalDate date = firstDay.plusDays(day);
+                monthDayCells[day].show(date, date.getMonth() == firstOfMonth.getMonth(), slots.subList(next, end));
+                next = end;
+            }
+        });
+    }
+
+    /**
+     * Looks up the events of the days, and shows them on the UI thread once they are found, unless the calendar has
+     * been refreshed again by then, as the events found would then be out of date.
+     */
+    private void findEvents(LocalDate firstDay, int days, Consumer<List<Item>> showEvents) {
+        int lookup = ++lookups;
+        eventFinder.find(firstDay.atStartOfDay(), firstDay.plusDays(days).atStartOfDay())
+                .whenCompleteAsync((items, e) -> {
+                    if (e != null) {
+                        logger.warning("Could not look up the events: " + e);
+                    } else if (lookup == lookups) {
+                        showEvents.accept(items);
+                    }
+                }, Platform::runLater);
+    }
+
+    /**
+     * The cell of a day in the month view, with its date, the first few of its events and the number of the others.
+     */
+    private static class MonthDayCell {
+        private final VBox box = new VBox();
+        private final Label dateLabel = new Label();
+        private final Label[] eventLabels = new Label[MAX_EVENTS_SHOWN_PER_DAY];
+        private final Label moreLabel = new Label();
+
+        MonthDayCell() {
+            box.getStyleClass().add("calendar-day");
+            box.setMinSize(0, 0);
+            box.getChildren().add(dateLabel);
+            for (int i = 0; i < eventLabels.length; i++) {
+                eventLabels[i] = new Label();
+                eventLabels[i].getStyleClass().add("calendar-event");
+                eventLabels[i].setMaxWidth(Double.MAX_VALUE);
+                box.getChildren().add(eventLabels[i]);
+            }
+            box.getChildren().add(moreLabel);
+        }
+
+        /**
+         * Shows the date and the events of the day in the cell.
+         * @param isInMonth whether the date is in the month shown, rather than in a week that runs into it
+         * @param slots the slots of the events of the day, in the order they start
+         */
+        void show(LocalDate date, boolean isInMonth, List<Slot> slots) {
+            dateLabel.setText(String.valueOf(date.getDayOfMonth()));
+            box.getStyleClass().remove("calendar-day-outside");
+            if (!isInMonth) {
+                box.getStyleClass().add("calendar-day-outside");
+            }
+            for (int i = 0; i < eventLabels.length; i++) {
+                boolean isShown = i < slots.size();
+                eventLabels[i].setVisible(isShown);
+                eventLabels[i].setManaged(isShown);
+                if (isShown) {
+                    eventLabels[i].setText(slots.get(i).getItem().getItemDescription().toString());
+                }
+            }
+            int more = slots.size() - eventLabels.length;
+            moreLabel.setVisible(more > 0);
+            moreLabel.setText(more > 0 ? String.format(MESSAGE_MORE_EVENTS, more) : "");
+        }
+    }
+
+    /**
+     * Represents a function that looks up the events in a range of time, off the UI thread.
+     */
+    @FunctionalInterface
+    public interface EventFinder {
+        /**
+         * Returns the items with events that take place at some time from {@code start} up to {@code end}, once they
+         * have been found, on any thread.
+         *
+         * @see seedu.address.logic.Logic#getEventsBetween(LocalDateTime, LocalDateTime)
+         */
+        CompletableFuture<List<Item>> find(LocalDateTime start, LocalDateTime end);
+    }
+}
@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -30,15 +30,19 @@ public class CommandBox extends UiPart<Region> {
 
     /**
      * Handles the Enter button pressed event.
+     * The command runs while the user goes on typing. Once it has run, the command box is cleared if it still holds
+     * the command, or shows that the command failed.
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            commandExecutor.execute(commandTextField.getText());
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        String commandText = commandTextField.getText();
+        commandExecutor.execute(commandText).whenComplete((commandResult, e) -> {
+            if (e != null) {
+                setStyleToIndicateCommandFailure();
+            } else if (commandTextField.getText().equals(commandText)) {
+                commandTextField.setText("");
+            }
+        });
     }
 
     /**
@@ -67,11 +71,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command, and returns its result, which is completed on the UI thread once the command has run.
+         * The result fails with a {@code CommandException} or a {@code ParseException} if the command does.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
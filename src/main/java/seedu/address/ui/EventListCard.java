@@ -22,7 +22,7 @@ public class EventListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Item item;
+    private Item item;
 
     @FXML
     private HBox cardPane;
@@ -39,8 +39,24 @@ public class EventListCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public EventListCard(Item item, int displayedIndex) {
+    /**
+     * Creates a card with no event on it yet, for a list cell that has not been given a row.
+     */
+    public EventListCard() {
         super(FXML);
+    }
+
+    public EventListCard(Item item, int displayedIndex) {
+        this();
+        setItem(item, displayedIndex);
+    }
+
+    /**
+     * Shows the description of the item and the priority, start and end of its event.
+     * @param item an item that has an event
+     * @param displayedIndex the number of the item in the event list, from 1
+     */
+    public void setItem(Item item, int displayedIndex) {
         this.item = item;
         id.setText(displayedIndex + ". ");
         description.setText(item.getItemDescription().toString());
@@ -27,9 +27,13 @@ public class EventListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Item} using a {@code ItemCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Item} using a {@code EventListCard}.
+     * The card is made the first time the cell shows an item, and then given each item the cell is reused for, so
+     * that scrolling does not load a card for every row that comes into view.
      */
     class EventListViewCell extends ListCell<Item> {
+        private EventListCard card = null;
+
         @Override
         protected void updateItem(Item item, boolean empty) {
             super.updateItem(item, empty);
@@ -38,7 +42,11 @@ public class EventListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EventListCard(item, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new EventListCard();
+                }
+                card.setItem(item, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -0,0 +1,115 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a list that is changed on another thread, kept for the UI thread to show.
+ * The list being followed is only read on the thread that changes it. Each change it tells of is copied there, and
+ * handed to the UI thread to be made to the copy in the same way, so that a list view showing the copy only updates
+ * the rows that changed. The copy is behind the list only by the changes still on their way to the UI thread.
+ */
+public class ListMirror<T> {
+    private final ObservableList<T> mirror = FXCollections.observableArrayList();
+    private final ListChangeListener<T> changeCopier = this::copyChange;
+    private final Executor uiExecutor;
+
+    /** The list being followed, which is only touched on the thread that changes it. */
+    private ObservableList<T> followed = null;
+
+    /**
+     * Creates a copy that is empty until it follows a list.
+     * @param uiExecutor runs the changes on the UI thread, in the order they are given
+     */
+    public ListMirror(Executor uiExecutor) {
+        requireNonNull(uiExecutor);
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Returns the copy, which must only be read on the UI thread.
+     */
+    public ObservableList<T> getList() {
+        return mirror;
+    }
+
+    /**
+     * Follows the list in place of the list followed before, copying it whole, or does nothing if the list is already
+     * being followed. Must be called on the thread that changes the list.
+     */
+    public void follow(ObservableList<T> list) {
+        requireNonNull(list);
+        if (list == followed) {
+            return;
+        }
+        if (followed != null) {
+            followed.removeListener(changeCopier);
+        }
+        followed = list;
+        list.addListener(changeCopier);
+        List<T> items = new ArrayList<>(list);
+        uiExecutor.execute(() -> mirror.setAll(items));
+    }
+
+    private void copyChange(ListChangeListener.Change<? extends T> change) {
+        List<Runnable> steps = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - from];
+                for (int i = from; i < change.getTo(); i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                steps.add(() -> permute(from, permutation));
+            } else if (change.wasAdded() || change.wasRemoved()) {
+                int removedSize = change.getRemovedSize();
+                List<T> added = new ArrayList<>(change.getAddedSubList());
+                steps.add(() -> replace(from, removedSize, added));
+            }
+        }
+        if (!steps.isEmpty()) {
+            uiExecutor.execute(() -> steps.forEach(Runnable::run));
+        }
+    }
+
+    /**
+     * Moves the items from {@code from} on to where the permutation puts them, as one sort of the copy, so that the
+     * copy tells its own listeners of a single permutation.
+     */
+    private void permute(int from, int[] permutation) {
+        Map<T, Integer> newIndices = new IdentityHashMap<>();
+        for (int i = 0; i < mirror.size(); i++) {
+            int offset = i - from;
+            newIndices.put(mirror.get(i), offset >= 0 && offset < permutation.length ? permutation[offset] : i);
+        }
+        mirror.sort((first, second) -> Integer.compare(newIndices.get(first), newIndices.get(second)));
+    }
+
+    /**
+     * Replaces the {@code removedSize} items from {@code from} on with the items added, telling the listeners of the
+     * copy of as few changes as can be.
+     */
+    private void replace(int from, int removedSize, List<T> added) {
+        if (from == 0 && removedSize == mirror.size()) {
+            mirror.setAll(added);
+        } else if (removedSize == 1 && added.size() == 1) {
+            mirror.set(from, added.get(0));
+        } else {
+            if (removedSize > 0) {
+                mirror.remove(from, from + removedSize);
+            }
+            if (!added.isEmpty()) {
+                mirror.addAll(from, added);
+            }
+        }
+    }
+}
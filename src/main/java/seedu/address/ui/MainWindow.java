@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
@@ -11,8 +15,13 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWriter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandProgress;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ShowCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -23,17 +32,24 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_REMINDER = "Reminder: %1$s";
+    private static final String MESSAGE_UNEXPECTED_ERROR = "The command could not be run: %1$s";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandWriter commandWriter;
+    /** The list being shown, copied for the UI thread as the commands change it on the command writer thread. */
+    private final ListMirror<Item> visualList = new ListMirror<>(Platform::runLater);
 
     // Independent Ui parts residing in this Ui container
     private EventListPanel eventListPanel;
     private TaskListPanel taskListPanel;
     private ReminderListPanel reminderListPanel;
+    private CalendarPanel calendarPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -47,6 +63,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane reminderListPanelPlaceholder;
 
+    @FXML
+    private StackPane calendarPanelPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -56,28 +75,24 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private TabPane viewsPlaceholder;
 
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandWriter commandWriter) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandWriter = commandWriter;
 
-        // Configure the UI
-        setWindowDefaultSize(logic.getGuiSettings());
+        // Configure the UI. The model is only touched on the command writer thread, which is idle at this point, so
+        // the window only waits for the read itself.
+        setWindowDefaultSize(commandWriter.query(logic::getGuiSettings).join());
 
         //Listen to changes in tab selection
         viewsPlaceholder.getSelectionModel().selectedItemProperty().addListener(
                 new ChangeListener<Tab>() {
                     @Override
                     public void changed(ObservableValue<? extends Tab> ov, Tab t, Tab t1) {
-                        try {
-                            executeCommand("show " + t1.getId());
-                        } catch (CommandException e) {
-                            e.printStackTrace();
-                        } catch (ParseException e) {
-                            e.printStackTrace();
-                        }
+                        executeCommand("show " + t1.getId());
                     }
                 }
         );
@@ -91,19 +106,32 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-
-        taskListPanel = new TaskListPanel(logic.getVisualList());
+        // The list being shown is only read on the command writer thread, which may replace it with each command.
+        commandWriter.addAfterCommandListener(() -> visualList.follow(logic.getVisualList()));
+        commandWriter.query(() -> {
+            visualList.follow(logic.getVisualList());
+            return null;
+        });
+
+        taskListPanel = new TaskListPanel(visualList.getList());
         taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
 
-        eventListPanel = new EventListPanel(logic.getVisualList());
+        eventListPanel = new EventListPanel(visualList.getList());
         eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
 
-        reminderListPanel = new ReminderListPanel(logic.getVisualList());
+        reminderListPanel = new ReminderListPanel(visualList.getList());
         reminderListPanelPlaceholder.getChildren().add(reminderListPanel.getRoot());
 
+        calendarPanel = new CalendarPanel((start, end) ->
+                commandWriter.query(() -> logic.getEventsBetween(start, end)));
+        calendarPanelPlaceholder.getChildren().add(calendarPanel.getRoot());
+
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
+        statusBarFooter = new StatusBarFooter(commandWriter.query(logic::getAddressBookFilePath).join());
+        statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
@@ -128,12 +156,17 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Closes the application.
+     * The settings are saved on the command writer thread after the commands still running, which the app waits for
+     * as it stops.
      */
     @FXML
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandWriter.query(() -> {
+            logic.setGuiSettings(guiSettings);
+            return null;
+        });
         primaryStage.hide();
     }
 
@@ -161,6 +194,25 @@ public class MainWindow extends UiPart<Stage> {
         }
     }
 
+    /**
+     * Shows the reminder of an item that has fallen due. Must be called on the UI thread.
+     */
+    void showReminder(Item item) {
+        logger.info("Reminder fired: " + item.getItemDescription());
+        resultDisplay.setFeedbackToUser(String.format(MESSAGE_REMINDER, item.getItemDescription()));
+    }
+
+    /**
+     * Looks up the events of the calendar again if it is being shown, as the command may have changed them.
+     * The list panels follow the list being shown by themselves.
+     */
+    private void refreshCalendar() {
+        Tab selectedTab = viewsPlaceholder.getSelectionModel().getSelectedItem();
+        if (selectedTab != null && ShowCommand.CALENDAR_VIEW_COMMAND.equals(selectedTab.getId())) {
+            calendarPanel.refresh();
+        }
+    }
+
     public TaskListPanel getTaskListPanel() {
         return taskListPanel;
     }
@@ -173,41 +225,66 @@ public class MainWindow extends UiPart<Stage> {
         return reminderListPanel;
     }
 
+    public CalendarPanel getCalendarPanel() {
+        return calendarPanel;
+    }
+
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the command writer thread, so that the window stays responsive while it runs, and
+     * returns its result, which is completed on the UI thread once the result has been shown. The status bar shows
+     * the progress of the command until it has run, with a button to cancel it.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#execute(String, CommandProgress)
      */
-    @FXML
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            resultDisplay.setMessageFromUser(commandText);
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isExit()) {
-                handleExit();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        resultDisplay.setMessageFromUser(commandText);
+        // The command may report its progress far more often than the window is drawn, so at most one update of the
+        // status bar is waiting to run at a time.
+        AtomicBoolean isProgressShowing = new AtomicBoolean(false);
+        CommandProgress progress = new CommandProgress(() -> {
+            if (isProgressShowing.compareAndSet(false, true)) {
+                Platform.runLater(() -> {
+                    isProgressShowing.set(false);
+                    statusBarFooter.showProgress();
+                });
             }
-
-            if (commandResult.isSwitchViews()) {
-                handleSwitchView(commandResult.getTargetView().trim());
+        });
+        statusBarFooter.showCommandStarted(commandText, progress);
+
+        return commandWriter.submit(commandText, progress).whenCompleteAsync((commandResult, e) -> {
+            statusBarFooter.showCommandFinished(progress);
+            if (e == null) {
+                showResult(commandResult);
+            } else {
+                showFailure(commandText, e instanceof CompletionException ? e.getCause() : e);
             }
+            refreshCalendar();
+        }, Platform::runLater);
+    }
 
-            taskListPanel = new TaskListPanel(logic.getVisualList());
-            taskListPanelPlaceholder.getChildren().add(taskListPanel.getRoot());
+    private void showResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            eventListPanel = new EventListPanel(logic.getVisualList());
-            eventListPanelPlaceholder.getChildren().add(eventListPanel.getRoot());
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            reminderListPanel = new ReminderListPanel(logic.getVisualList());
-            reminderListPanelPlaceholder.getChildren().add(reminderListPanel.getRoot());
+        if (commandResult.isSwitchViews()) {
+            handleSwitchView(commandResult.getTargetView().trim());
+        }
+    }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+    /**
+     * Shows why the command failed. A failure that is not an invalid command is logged in full, as it is a bug.
+     */
+    private void showFailure(String commandText, Throwable e) {
+        if (e instanceof CommandException || e instanceof ParseException) {
             logger.info("Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        } else {
+            logger.severe(StringUtil.getDetails(e));
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_UNEXPECTED_ERROR, e));
         }
     }
 }
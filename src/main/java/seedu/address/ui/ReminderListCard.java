@@ -22,7 +22,7 @@ public class ReminderListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Item item;
+    private Item item;
 
     @FXML
     private HBox cardPane;
@@ -37,8 +37,24 @@ public class ReminderListCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public ReminderListCard(Item item, int displayedIndex) {
+    /**
+     * Creates an empty reminder card, which is filled in when a cell first shows a reminder.
+     */
+    public ReminderListCard() {
         super(FXML);
+    }
+
+    public ReminderListCard(Item item, int displayedIndex) {
+        this();
+        setItem(item, displayedIndex);
+    }
+
+    /**
+     * Shows the description of the item and when its reminder goes off.
+     * @param item an item that has a reminder
+     * @param displayedIndex the number of the item in the reminder list, from 1
+     */
+    public void setItem(Item item, int displayedIndex) {
         this.item = item;
         id.setText(displayedIndex + ". ");
         description.setText(item.getItemDescription().toString());
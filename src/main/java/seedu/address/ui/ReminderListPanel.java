@@ -27,9 +27,13 @@ public class ReminderListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Item} using a {@code ItemCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Item} using a {@code ReminderListCard}.
+     * The card is made the first time the cell shows an item, and then given each item the cell is reused for, so
+     * that scrolling does not load a card for every row that comes into view.
      */
     class ReminderListViewCell extends ListCell<Item> {
+        private ReminderListCard card = null;
+
         @Override
         protected void updateItem(Item item, boolean empty) {
             super.updateItem(item, empty);
@@ -38,7 +42,11 @@ public class ReminderListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ReminderListCard(item, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new ReminderListCard();
+                }
+                card.setItem(item, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,26 +1,105 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.logic.commands.CommandProgress;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
+ * While commands are running, the status bar shows the progress of the one being run, with a button to cancel it, in
+ * place of the save location.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String MESSAGE_RUNNING_WITH_PROGRESS = "%1$s (%2$d/%3$d)";
+    private static final String MESSAGE_QUEUED = " +%1$d queued";
+
+    /** The commands given and not yet finished, in the order they run, with the text of each. */
+    private final Map<CommandProgress, String> runningCommands = new LinkedHashMap<>();
 
     @FXML
     private Label saveLocationStatus;
-
+    @FXML
+    private HBox commandStatus;
+    @FXML
+    private Label commandStatusText;
+    @FXML
+    private ProgressBar commandProgressBar;
+    @FXML
+    private Button cancelButton;
 
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that the command has been given, to be run after the commands given before it.
+     */
+    public void showCommandStarted(String commandText, CommandProgress progress) {
+        requireNonNull(commandText);
+        requireNonNull(progress);
+        runningCommands.put(progress, commandText);
+        showProgress();
+    }
+
+    /**
+     * Shows that the command has finished, so that the status bar moves on to the next command, if there is one.
+     */
+    public void showCommandFinished(CommandProgress progress) {
+        runningCommands.remove(progress);
+        showProgress();
+    }
+
+    /**
+     * Shows how far the command being run has got.
+     */
+    public void showProgress() {
+        boolean isRunning = !runningCommands.isEmpty();
+        saveLocationStatus.setVisible(!isRunning);
+        commandStatus.setVisible(isRunning);
+        commandStatus.setManaged(isRunning);
+        if (!isRunning) {
+            return;
+        }
+
+        Map.Entry<CommandProgress, String> current = runningCommands.entrySet().iterator().next();
+        CommandProgress progress = current.getKey();
+        String text = progress.getFraction() < 0
+                ? current.getValue()
+                : String.format(MESSAGE_RUNNING_WITH_PROGRESS, current.getValue(), progress.getDone(),
+                        progress.getTotal());
+        if (runningCommands.size() > 1) {
+            text += String.format(MESSAGE_QUEUED, runningCommands.size() - 1);
+        }
+        commandStatusText.setText(text);
+        commandProgressBar.setProgress(progress.getFraction() < 0
+                ? ProgressBar.INDETERMINATE_PROGRESS
+                : progress.getFraction());
+        cancelButton.setDisable(progress.isCancelled());
+    }
+
+    /**
+     * Cancels the command being run.
+     */
+    @FXML
+    private void handleCancel() {
+        if (runningCommands.isEmpty()) {
+            return;
+        }
+        runningCommands.keySet().iterator().next().cancel();
+        showProgress();
+    }
 }
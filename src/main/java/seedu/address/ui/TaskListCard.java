@@ -22,7 +22,7 @@ public class TaskListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Item item;
+    private Item item;
 
     @FXML
     private HBox cardPane;
@@ -37,8 +37,24 @@ public class TaskListCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
-    public TaskListCard(Item item, int displayedIndex) {
+    /**
+     * Creates a card with no task on it yet. {@link #setItem(Item, int)} fills it in.
+     */
+    public TaskListCard() {
         super(FXML);
+    }
+
+    public TaskListCard(Item item, int displayedIndex) {
+        this();
+        setItem(item, displayedIndex);
+    }
+
+    /**
+     * Shows the description of the item, and the priority of its task and whether the task is done.
+     * @param item an item that has a task
+     * @param displayedIndex the number of the item in the task list, from 1
+     */
+    public void setItem(Item item, int displayedIndex) {
         this.item = item;
         id.setText(displayedIndex + ". ");
         description.setText(item.getItemDescription().toString());
@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandWriter;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,11 +24,13 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/ElisaIcon.png";
 
     private Logic logic;
+    private CommandWriter commandWriter;
     private MainWindow mainWindow;
 
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandWriter commandWriter) {
         super();
         this.logic = logic;
+        this.commandWriter = commandWriter;
     }
 
     @Override
@@ -38,9 +41,10 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandWriter);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
+            logic.startReminders(Platform::runLater, mainWindow::showReminder);
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -2,8 +2,12 @@ package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
@@ -17,6 +21,9 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
+    /** The contents of the FXML files loaded so far, by location, as parts such as list cards are made many times. */
+    private static final Map<String, byte[]> fxmlDocuments = new ConcurrentHashMap<>();
+
     private final FXMLLoader fxmlLoader = new FXMLLoader();
 
     /**
@@ -68,13 +75,28 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream document = new ByteArrayInputStream(getFxmlDocument(location))) {
+            fxmlLoader.load(document);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
     }
 
+    /**
+     * Returns the contents of the FXML document at the location, which is only read the first time it is asked for.
+     */
+    private static byte[] getFxmlDocument(URL location) throws IOException {
+        String key = location.toExternalForm();
+        byte[] document = fxmlDocuments.get(key);
+        if (document == null) {
+            try (InputStream in = location.openStream()) {
+                document = in.readAllBytes();
+            }
+            fxmlDocuments.put(key, document);
+        }
+        return document;
+    }
+
     /**
      * Returns the FXML file URL for the specified FXML file name within {@link #FXML_FILE_FOLDER}.
      */
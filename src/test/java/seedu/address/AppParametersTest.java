@@ -37,6 +37,37 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validBatchPath_success() {
+        parametersStub.namedParameters.put("batch", "data/script.txt");
+        expected.setBatchPath(Paths.get("data/script.txt"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidBatchPath_success() {
+        parametersStub.namedParameters.put("batch", "a\0");
+        expected.setBatchPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_headlessArguments_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setHeadless(true);
+        expected.setPort(4000);
+        expected.setApiPort(8080);
+        assertEquals(expected, AppParameters.parse(
+                new String[] {"--config=config.json", "--headless", "--port=4000", "--api-port=8080"}));
+    }
+
+    @Test
+    public void parse_invalidPort_success() {
+        parametersStub.namedParameters.put("port", "70000");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+        assertEquals(expected, AppParameters.parse(new String[] {"--port=abc"}));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
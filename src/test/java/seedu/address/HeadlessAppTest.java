@@ -0,0 +1,73 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.CommandWriter;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ItemModelManager;
+import seedu.address.model.ItemStorage;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonItemStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private CommandWriter commandWriter;
+
+    @BeforeEach
+    public void setUp() {
+        // The first save fails with an exception that has no message.
+        AtomicBoolean hasFailed = new AtomicBoolean(false);
+        StorageManager storage = new StorageManager(new JsonItemStorage(temporaryFolder.resolve("items.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))) {
+            @Override
+            public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+                if (hasFailed.compareAndSet(false, true)) {
+                    throw new NullPointerException();
+                }
+                super.saveItemStorage(itemStorage);
+            }
+        };
+        commandWriter = new CommandWriter(new LogicManager(new ItemModelManager(new ItemStorage(), new UserPrefs()),
+                storage));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandWriter.shutdown();
+    }
+
+    @Test
+    public void serve_commandThrowsWithoutMessage_nextCommandStillRun() throws Exception {
+        StringWriter output = new StringWriter();
+
+        boolean isExit = HeadlessApp.serve(commandWriter,
+                new BufferedReader(new StringReader("task First\ntask Second\n")), new PrintWriter(output));
+
+        assertFalse(isExit);
+        String[] lines = output.toString().split("\\R");
+        assertEquals(HeadlessApp.STATUS_ERROR + " 1", lines[0]);
+        assertEquals(String.format(HeadlessApp.MESSAGE_UNEXPECTED_ERROR, new NullPointerException()), lines[1]);
+        assertTrue(lines[2].startsWith(HeadlessApp.STATUS_OK + " "));
+        assertEquals(2, commandWriter.getSnapshot().size());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.core.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalItems.EXAM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class ItemTest {
+
+    @Test
+    public void lazy_usedFromManyThreads_decodedOnceToSameFields() throws Exception {
+        AtomicInteger decodeCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Item lazy = Item.lazy(false, true, true, () -> {
+            decodeCount.incrementAndGet();
+            return EXAM.deepCopy();
+        });
+        assertTrue(lazy.hasEvent());
+        assertFalse(lazy.isDecoded());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Item>> decoded = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                decoded.add(executor.submit(() -> {
+                    start.await();
+                    assertEquals(EXAM.hashCode(), lazy.hashCode());
+                    return lazy.decode();
+                }));
+            }
+            start.countDown();
+            for (Future<Item> item : decoded) {
+                assertSame(decoded.get(0).get(), item.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, decodeCount.get());
+        assertTrue(lazy.isDecoded());
+        assertEquals(EXAM, lazy);
+        assertEquals(EXAM.getEvent(), lazy.getEvent());
+    }
+}
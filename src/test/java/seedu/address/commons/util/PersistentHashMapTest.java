@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentHashMapTest {
+
+    @Test
+    public void putAndRemove_randomOperations_sameAsHashMap() {
+        Random random = new Random(2103);
+        HashMap<Key, Integer> expected = new HashMap<>();
+        PersistentHashMap<Key, Integer> map = PersistentHashMap.empty();
+
+        for (int i = 0; i < 20000; i++) {
+            // few distinct hash codes, so that keys collide at every level of the trie
+            Key key = new Key(random.nextInt(2000), random.nextInt(8) << random.nextInt(28));
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, i);
+                map = map.put(key, i);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        for (int i = 0; i < 2000; i++) {
+            for (int j = 0; j < 8; j++) {
+                for (int shift = 0; shift < 28; shift++) {
+                    Key key = new Key(i, j << shift);
+                    assertEquals(expected.get(key), map.get(key));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void put_oldVersion_unchanged() {
+        PersistentHashMap<String, Integer> original = PersistentHashMap.<String, Integer>empty().put("a", 1);
+        PersistentHashMap<String, Integer> updated = original.put("a", 2).put("b", 3);
+
+        assertEquals(Integer.valueOf(1), original.get("a"));
+        assertFalse(original.containsKey("b"));
+        assertEquals(Integer.valueOf(2), updated.get("a"));
+        assertTrue(updated.containsKey("b"));
+        assertNull(updated.remove("b").get("b"));
+        assertSame(updated, updated.remove("c"));
+        assertEquals(0, original.remove("a").size());
+    }
+
+    /**
+     * A key with a hash code that is chosen separately from its identity.
+     */
+    private static class Key {
+        private final int id;
+        private final int hash;
+
+        Key(int id, int hash) {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).id == id && ((Key) other).hash == hash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
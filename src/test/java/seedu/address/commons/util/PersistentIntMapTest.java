@@ -0,0 +1,104 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentIntMapTest {
+
+    @Test
+    public void putAndRemove_randomOperations_sameAsTreeMap() {
+        Random random = new Random(2103);
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        PersistentIntMap<String> map = PersistentIntMap.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, "value " + i);
+                map = map.put(key, "value " + i);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        List<String> values = new ArrayList<>();
+        map.forEach(values::add);
+        assertEquals(new ArrayList<>(expected.values()), values);
+
+        int index = 0;
+        for (Integer key : expected.keySet()) {
+            assertEquals(expected.get(key), map.get(key));
+            assertEquals(expected.get(key), map.getAt(index));
+            assertEquals(index, map.indexOfKey(key));
+            index++;
+        }
+        assertEquals(-1, map.indexOfKey(500));
+    }
+
+    @Test
+    public void put_oldVersion_unchanged() {
+        PersistentIntMap<String> original = PersistentIntMap.<String>empty().put(1, "one").put(2, "two");
+        PersistentIntMap<String> updated = original.put(1, "uno").remove(2).put(3, "three");
+
+        assertEquals("one", original.get(1));
+        assertEquals("two", original.get(2));
+        assertNull(original.get(3));
+        assertEquals(2, original.size());
+        assertEquals("uno", updated.get(1));
+        assertNull(updated.get(2));
+        assertSame(updated, updated.remove(2));
+    }
+
+    @Test
+    public void ofSequence_values_keyedByPosition() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add("value " + i);
+        }
+        PersistentIntMap<String> map = PersistentIntMap.ofSequence(values).remove(500).put(1000, "value 1000");
+
+        assertEquals(1000, map.size());
+        assertEquals("value 499", map.get(499));
+        assertNull(map.get(500));
+        assertEquals("value 501", map.getAt(500));
+        assertEquals(999, map.indexOfKey(1000));
+    }
+
+    @Test
+    public void ofSorted_keysNotIncreasing_throwsIllegalArgumentException() {
+        List<String> values = Arrays.asList("one", "two", "three");
+        PersistentIntMap<String> map = PersistentIntMap.ofSorted(new int[] {1, 5, 9}, values);
+        assertEquals("two", map.get(5));
+        assertEquals(2, map.indexOfKey(9));
+
+        assertThrows(IllegalArgumentException.class, () -> PersistentIntMap.ofSorted(new int[] {1, 9, 5}, values));
+        assertThrows(IllegalArgumentException.class, () -> PersistentIntMap.ofSorted(new int[] {1, 5}, values));
+    }
+
+    @Test
+    public void forEachEntry_map_entriesInKeyOrder() {
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty().put(7, "c").put(2, "a").put(5, "b");
+        List<String> entries = new ArrayList<>();
+        map.forEachEntry((value, key) -> entries.add(key + value));
+        assertEquals(Arrays.asList("2a", "5b", "7c"), entries);
+    }
+
+    @Test
+    public void getAt_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentIntMap<String> map = PersistentIntMap.<String>empty().put(1, "one");
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getAt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> map.getAt(-1));
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.CommandProgress;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ItemModelManager;
+import seedu.address.model.ItemStorage;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonItemStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandWriterTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private CommandWriter commandWriter;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(new JsonItemStorage(temporaryFolder.resolve("items.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        commandWriter = new CommandWriter(new LogicManager(new ItemModelManager(new ItemStorage(), new UserPrefs()),
+                storage));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        commandWriter.shutdown();
+    }
+
+    @Test
+    public void execute_commandsFromSeveralThreads_snapshotsNotChangedByLaterCommands() throws Exception {
+        ItemStorage empty = commandWriter.getSnapshot();
+        commandWriter.execute("task First");
+        ItemStorage afterFirst = commandWriter.getSnapshot();
+
+        AtomicInteger failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            int thread = i;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 25; j++) {
+                    try {
+                        commandWriter.execute("task Task " + thread + " " + j);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, failures.get());
+        assertEquals(0, empty.size());
+        assertEquals(1, afterFirst.size());
+        assertEquals(101, commandWriter.getSnapshot().size());
+    }
+
+    @Test
+    public void submit_cancelledWhileQueued_notRun() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Boolean> blocker = commandWriter.query(() -> {
+            try {
+                return release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+        AtomicInteger commandsRun = new AtomicInteger();
+        commandWriter.addAfterCommandListener(commandsRun::incrementAndGet);
+        CommandProgress progress = CommandProgress.none();
+        CompletableFuture<CommandResult> result = commandWriter.submit("task Cancelled", progress);
+
+        progress.cancel();
+        release.countDown();
+
+        assertTrue(blocker.get());
+        assertThrows(ExecutionException.class, result::get);
+        Throwable cause = result.handle((commandResult, e) -> e).get();
+        assertTrue(cause instanceof CommandException);
+        assertEquals(CommandProgress.MESSAGE_CANCELLED, cause.getMessage());
+        // The listeners run after the result is completed, so wait for the writer to get past them.
+        commandWriter.query(() -> null).get();
+        assertEquals(1, commandsRun.get());
+        assertEquals(0, commandWriter.getSnapshot().size());
+    }
+
+    @Test
+    public void submit_afterCommandListenerThrows_commandStillSucceeds() throws Exception {
+        AtomicInteger listenersRun = new AtomicInteger();
+        commandWriter.addAfterCommandListener(() -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        commandWriter.addAfterCommandListener(listenersRun::incrementAndGet);
+
+        CommandResult result = commandWriter.submit("task Listened", CommandProgress.none()).get();
+
+        assertEquals(1, commandWriter.getSnapshot().size());
+        assertTrue(result.getFeedbackToUser().contains("Listened"));
+        commandWriter.query(() -> null).get();
+        assertEquals(1, listenersRun.get());
+    }
+
+    @Test
+    public void execute_invalidCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> commandWriter.execute("bogus"));
+    }
+}
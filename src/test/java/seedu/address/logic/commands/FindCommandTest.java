@@ -1,10 +1,52 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.getTypicalItemList;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ItemModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.item.VisualizeList;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
  */
 public class FindCommandTest {
+    private static final String[] KEYWORDS = {"homework", "exam", "quiz"};
+
+    @Test
+    public void execute_withProgress_eachKeywordReported() throws Exception {
+        ItemModelManager model = new ItemModelManager(getTypicalItemList(), new UserPrefs());
+        CommandProgress progress = CommandProgress.none();
+
+        new FindCommand(KEYWORDS, true).execute(model, progress);
+
+        assertEquals(KEYWORDS.length, progress.getDone());
+        assertEquals(KEYWORDS.length, progress.getTotal());
+    }
+
+    @Test
+    public void execute_cancelledWhileSearching_listShownUnchanged() {
+        ItemModelManager model = new ItemModelManager(getTypicalItemList(), new UserPrefs());
+        VisualizeList shown = model.getVisualList();
+        CommandProgress progress = new CommandProgress(() -> { }) {
+            @Override
+            public void update(int done, int total) {
+                super.update(done, total);
+                cancel();
+            }
+        };
+
+        assertThrows(CommandException.class, CommandProgress.MESSAGE_CANCELLED, () ->
+                new FindCommand(KEYWORDS).execute(model, progress));
+        assertEquals(1, progress.getDone());
+        assertSame(shown, model.getVisualList());
+    }
+
     //private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     //private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
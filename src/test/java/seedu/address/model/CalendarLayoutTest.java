@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.item.Event;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.core.item.ItemDescription;
+import seedu.address.commons.core.item.Priority;
+import seedu.address.model.CalendarLayout.Slot;
+
+public class CalendarLayoutTest {
+
+    private static final LocalDate MONDAY = LocalDate.parse("2019-09-23");
+    private static final Duration HALF_HOUR = Duration.ofMinutes(30);
+
+    @Test
+    public void layOut_overlappingEvents_sideBySideInGroups() {
+        Item lecture = event("Lecture", "2019-09-23T09:00", "PT2H");
+        Item quiz = event("Quiz", "2019-09-23T09:00", "PT1H");
+        Item lab = event("Lab", "2019-09-23T10:00", "PT1H");
+        Item lunch = event("Lunch", "2019-09-23T12:00", "PT1H");
+
+        List<Slot> slots = CalendarLayout.layOut(Arrays.asList(lunch, lab, quiz, lecture), MONDAY, 7, HALF_HOUR);
+
+        assertEquals(4, slots.size());
+        assertSlot(slots.get(0), lecture, 0, 0, 2);
+        assertSlot(slots.get(1), quiz, 0, 1, 2);
+        // The lab takes the column the quiz has freed up.
+        assertSlot(slots.get(2), lab, 0, 1, 2);
+        assertSlot(slots.get(3), lunch, 0, 0, 1);
+    }
+
+    @Test
+    public void layOut_eventOverMidnight_slotInEachDay() {
+        Item party = event("Party", "2019-09-24T22:00", "PT4H");
+        Item breakfast = event("Breakfast", "2019-09-25T01:00", "PT1H");
+
+        List<Slot> slots = CalendarLayout.layOut(Arrays.asList(party, breakfast), MONDAY, 7, HALF_HOUR);
+
+        assertEquals(3, slots.size());
+        assertSlot(slots.get(0), party, 1, 0, 1);
+        assertEquals(LocalDateTime.parse("2019-09-25T00:00"), slots.get(0).getEnd());
+        assertSlot(slots.get(1), party, 2, 0, 2);
+        assertEquals(LocalDateTime.parse("2019-09-25T02:00"), slots.get(1).getEnd());
+        assertSlot(slots.get(2), breakfast, 2, 1, 2);
+    }
+
+    @Test
+    public void layOut_eventsAtEdgesOfRange_onlyDaysShown() {
+        Item trip = event("Trip", "2019-09-21T12:00", "P3D");
+        Item alarm = event("Alarm", "2019-09-29T23:50", null);
+        Item nextWeek = event("Next week", "2019-09-30T00:00", "PT1H");
+
+        List<Slot> slots = CalendarLayout.layOut(Arrays.asList(trip, alarm, nextWeek), MONDAY, 7, HALF_HOUR);
+
+        assertEquals(3, slots.size());
+        assertEquals(LocalDateTime.parse("2019-09-23T00:00"), slots.get(0).getStart());
+        assertSlot(slots.get(1), trip, 1, 0, 1);
+        // An event without a duration is given the least duration, up to the end of its day.
+        assertSlot(slots.get(2), alarm, 6, 0, 1);
+        assertEquals(LocalDateTime.parse("2019-09-30T00:00"), slots.get(2).getEnd());
+    }
+
+    private static Item event(String description, String start, String duration) {
+        return new Item.ItemBuilder().setItemDescription(new ItemDescription(description))
+                .setEvent(new Event(LocalDateTime.parse(start), duration == null ? null : Duration.parse(duration),
+                        Priority.HIGH))
+                .build();
+    }
+
+    private static void assertSlot(Slot slot, Item item, int day, int column, int columns) {
+        assertEquals(item, slot.getItem());
+        assertEquals(day, slot.getDay());
+        assertEquals(column, slot.getColumn());
+        assertEquals(columns, slot.getColumns());
+    }
+}
@@ -0,0 +1,281 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.item.Event;
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.core.item.ItemDescription;
+import seedu.address.commons.core.item.Reminder;
+import seedu.address.model.item.VisualizeList;
+import seedu.address.testutil.TestClock;
+import seedu.address.testutil.TestItemBuilder;
+
+public class ItemModelManagerTest {
+
+    private static final Item QUIZ = new TestItemBuilder().withDescription("Quiz").build();
+    private static final Item EXAM = new TestItemBuilder().withDescription("Exam").build();
+    private static final Item LUNCH = new TestItemBuilder().withDescription("Lunch").build();
+
+    private ItemModelManager modelManager;
+
+    @BeforeEach
+    public void setUp() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(QUIZ);
+        itemStorage.add(EXAM);
+        itemStorage.add(LUNCH);
+        modelManager = new ItemModelManager(itemStorage, new UserPrefs());
+    }
+
+    @Test
+    public void replaceItem_reminderRemoved_keepsIdAndPositions() throws Exception {
+        Item editedExam = new TestItemBuilder(EXAM).withDescription("Final Exam").build();
+        Item examWithoutReminder = new Item.ItemBuilder().setItemDescription(editedExam.getItemDescription())
+                .setEvent(editedExam.getEvent().get())
+                .setTags(editedExam.getTags())
+                .build();
+        int id = modelManager.getItemStorage().getId(EXAM);
+
+        modelManager.setVisualList("E");
+        modelManager.replaceItem(EXAM, examWithoutReminder);
+
+        assertEquals(id, modelManager.getItemStorage().getId(examWithoutReminder));
+        assertEquals(Arrays.asList(QUIZ, examWithoutReminder, LUNCH), modelManager.getVisualList().getList());
+        modelManager.setVisualList("R");
+        assertEquals(Arrays.asList(QUIZ, LUNCH), modelManager.getVisualList().getList());
+
+        // adding the reminder back puts the item back in its place
+        modelManager.replaceItem(examWithoutReminder, editedExam);
+        assertEquals(Arrays.asList(QUIZ, editedExam, LUNCH), modelManager.getVisualList().getList());
+    }
+
+    @Test
+    public void findItem_kindAndSortedLists_foundItemsInListOrder() throws Exception {
+        modelManager.setVisualList("E");
+        assertEquals(Arrays.asList(EXAM, LUNCH), modelManager.findItem(new String[] {"lunch", "exa"}).getList());
+
+        modelManager.setVisualList("E");
+        modelManager.sort();
+        modelManager.getVisualList().getList().sort((item1, item2) -> item2.getItemDescription().getDescription()
+                .compareTo(item1.getItemDescription().getDescription()));
+        assertEquals(Arrays.asList(LUNCH, EXAM), modelManager.findItem(new String[] {"lunch", "exa"}).getList());
+    }
+
+    @Test
+    public void fuzzyFindItem_sortedList_bestMatchesFirst() throws Exception {
+        Item quizzes = new TestItemBuilder().withDescription("Quizzes").build();
+        modelManager.addItem(quizzes);
+
+        modelManager.setVisualList("R");
+        assertEquals(Arrays.asList(QUIZ, quizzes), modelManager.fuzzyFindItem(new String[] {"quiz"}).getList());
+
+        modelManager.setVisualList("E");
+        modelManager.sort();
+        assertEquals(Arrays.asList(QUIZ, quizzes), modelManager.fuzzyFindItem(new String[] {"quiz"}).getList());
+        assertEquals(Arrays.asList(quizzes, QUIZ), modelManager.fuzzyFindItem(new String[] {"quizes"}).getList());
+    }
+
+    @Test
+    public void deleteItem_sortedList_removedFromEveryList() throws Exception {
+        modelManager.setVisualList("E");
+        modelManager.sort();
+        Item deleted = modelManager.deleteItem(0);
+
+        assertFalse(modelManager.getItemStorage().contains(deleted));
+        assertFalse(modelManager.getItemStorage().getById(0).isPresent());
+        modelManager.setVisualList("E");
+        assertEquals(Arrays.asList(EXAM, LUNCH), modelManager.getVisualList().getList());
+        modelManager.setVisualList("R");
+        assertEquals(Arrays.asList(EXAM, LUNCH), modelManager.getVisualList().getList());
+    }
+
+    @Test
+    public void sort_eventList_sortedViewKeptUpToDate() throws Exception {
+        Item early = new TestItemBuilder().withDescription("Early").withEvent("2019-09-01T09:00", null, "low").build();
+        Item late = new TestItemBuilder().withDescription("Late").withEvent("2019-12-01T09:00", null, "low").build();
+        modelManager.setVisualList("E");
+        modelManager.sort();
+        VisualizeList sortedEvents = modelManager.getVisualList();
+
+        modelManager.addItem(late);
+        modelManager.addItem(early);
+        assertEquals(Arrays.asList(early, QUIZ, EXAM, LUNCH, late), sortedEvents.getList());
+
+        Item movedExam = new TestItemBuilder(EXAM).withEvent("2019-11-01T09:00", null, "low").build();
+        modelManager.replaceItem(EXAM, movedExam);
+        modelManager.deleteItem(0);
+        assertEquals(Arrays.asList(QUIZ, LUNCH, movedExam, late), sortedEvents.getList());
+
+        // the view stays shown and up to date across undo, and sorting again switches back to it
+        assertTrue(modelManager.undo());
+        assertSame(sortedEvents, modelManager.getVisualList());
+        assertEquals(Arrays.asList(early, QUIZ, LUNCH, movedExam, late), sortedEvents.getList());
+        modelManager.setVisualList("E");
+        assertEquals(Arrays.asList(QUIZ, movedExam, LUNCH, late, early), modelManager.getVisualList().getList());
+        modelManager.sort();
+        assertSame(sortedEvents, modelManager.getVisualList());
+    }
+
+    @Test
+    public void findEventsBetween_eventsChanged_indexKeptUpToDate() throws Exception {
+        Item morning = withEvent("Morning", "2019-10-01T09:00", 120);
+        Item noon = withEvent("Noon", "2019-10-01T10:30", 90);
+        Item evening = withEvent("Evening", "2019-10-01T18:00", 0);
+        modelManager.addItem(evening);
+        modelManager.addItem(noon);
+        modelManager.addItem(morning);
+        LocalDateTime dayStart = LocalDateTime.parse("2019-10-01T00:00");
+        LocalDateTime dayEnd = LocalDateTime.parse("2019-10-02T00:00");
+
+        assertEquals(Arrays.asList(morning, noon, evening),
+                modelManager.findEventsBetween(dayStart, dayEnd).getList());
+        // the range is half-open, and an event without a duration still takes up its first second
+        assertEquals(Arrays.asList(morning),
+                modelManager.findEventsBetween(dayStart, LocalDateTime.parse("2019-10-01T10:30")).getList());
+        assertEquals(Arrays.asList(evening), modelManager.findEventsBetween(LocalDateTime.parse("2019-10-01T18:00"),
+                LocalDateTime.parse("2019-10-01T18:01")).getList());
+        assertEquals(Arrays.asList(noon), modelManager.getConflictingEvents(morning));
+
+        Item movedNoon = withEvent("Noon", "2019-10-01T17:00", 90);
+        modelManager.setVisualList("E");
+        modelManager.replaceItem(noon, movedNoon);
+        assertTrue(modelManager.getConflictingEvents(morning).isEmpty());
+        assertEquals(Arrays.asList(movedNoon), modelManager.getConflictingEvents(evening));
+
+        modelManager.deleteItem(modelManager.getVisualList().indexOf(movedNoon));
+        assertEquals(Arrays.asList(morning, evening), modelManager.findEventsBetween(dayStart, dayEnd).getList());
+
+        // the index is kept for the restored storage, with the items undone put back
+        assertTrue(modelManager.undo());
+        assertEquals(Arrays.asList(morning, movedNoon, evening),
+                modelManager.findEventsBetween(dayStart, dayEnd).getList());
+    }
+
+    @Test
+    public void undoRedo_severalChanges_restoresEachState() throws Exception {
+        ItemStorage initial = modelManager.getItemStorage().deepCopy();
+        modelManager.setVisualList("E");
+        modelManager.deleteItem(0);
+        ItemStorage afterDelete = modelManager.getItemStorage().deepCopy();
+        modelManager.clear();
+
+        assertTrue(modelManager.undo());
+        assertEquals(afterDelete, modelManager.getItemStorage());
+        modelManager.setVisualList("E");
+        assertEquals(Arrays.asList(EXAM, LUNCH), modelManager.getVisualList().getList());
+        assertTrue(modelManager.undo());
+        assertEquals(initial, modelManager.getItemStorage());
+        assertFalse(modelManager.undo());
+
+        assertTrue(modelManager.redo());
+        assertEquals(afterDelete, modelManager.getItemStorage());
+
+        // a new change cannot be followed by a redo
+        modelManager.addItem(QUIZ);
+        assertFalse(modelManager.redo());
+        assertTrue(modelManager.undo());
+        assertEquals(afterDelete, modelManager.getItemStorage());
+    }
+
+    @Test
+    public void findItem_afterUndoAndRedo_indexesKeptUpToDate() throws Exception {
+        Item quizPrep = new TestItemBuilder().withDescription("Quiz prep").build();
+        String[] keywords = {"quiz"};
+        modelManager.setVisualList("E");
+        assertEquals(Arrays.asList(QUIZ), modelManager.findItem(keywords).getList());
+        assertEquals(Arrays.asList(QUIZ), modelManager.fuzzyFindItem(keywords).getList());
+
+        modelManager.setVisualList("E");
+        modelManager.deleteItem(0);
+        modelManager.addItem(quizPrep);
+        modelManager.clear();
+        // after the clear, the new items get the IDs the old ones had
+        modelManager.addItem(LUNCH);
+        modelManager.addItem(EXAM);
+        modelManager.setVisualList("E");
+
+        assertEquals(Arrays.asList(), modelManager.findItem(keywords).getList());
+        assertTrue(modelManager.undo());
+        assertTrue(modelManager.undo());
+        assertTrue(modelManager.undo());
+        assertEquals(Arrays.asList(quizPrep), modelManager.findItem(keywords).getList());
+        assertEquals(Arrays.asList(quizPrep), modelManager.fuzzyFindItem(keywords).getList());
+        assertTrue(modelManager.undo());
+        assertTrue(modelManager.undo());
+        assertEquals(Arrays.asList(QUIZ), modelManager.findItem(keywords).getList());
+        assertTrue(modelManager.redo());
+        assertEquals(Arrays.asList(), modelManager.fuzzyFindItem(keywords).getList());
+    }
+
+    @Test
+    public void batch_committedAndRolledBack_undoneAsOneChange() throws Exception {
+        ItemStorage initial = modelManager.getItemStorage().deepCopy();
+        Item late = withEvent("Late", "2019-10-01T23:00", 30);
+
+        modelManager.startBatch();
+        modelManager.addItem(late);
+        modelManager.setVisualList("E");
+        modelManager.deleteItem(0);
+        modelManager.commitBatch();
+        ItemStorage afterBatch = modelManager.getItemStorage().deepCopy();
+
+        assertTrue(modelManager.undo());
+        assertEquals(initial, modelManager.getItemStorage());
+        assertFalse(modelManager.undo());
+        assertTrue(modelManager.redo());
+        assertEquals(afterBatch, modelManager.getItemStorage());
+
+        // a batch that is rolled back leaves nothing to undo or redo
+        modelManager.startBatch();
+        modelManager.clear();
+        modelManager.addItem(QUIZ);
+        modelManager.rollBackBatch();
+        assertEquals(afterBatch, modelManager.getItemStorage());
+        modelManager.setVisualList("E");
+        assertEquals(Arrays.asList(EXAM, LUNCH, late), modelManager.getVisualList().getList());
+        assertFalse(modelManager.redo());
+        assertTrue(modelManager.undo());
+        assertEquals(initial, modelManager.getItemStorage());
+    }
+
+    @Test
+    public void startReminders_clockReachesAddedReminder_itemHandedToListener() throws Exception {
+        LocalDateTime now = LocalDateTime.parse("2019-10-01T09:00");
+        TestClock clock = new TestClock(now);
+        ItemModelManager model = new ItemModelManager(new ItemStorage(), new UserPrefs(), clock);
+        Item call = new Item.ItemBuilder().setItemDescription(new ItemDescription("Call"))
+                .setReminder(new Reminder(now.plusHours(1)))
+                .build();
+        BlockingQueue<Item> firedItems = new LinkedBlockingQueue<>();
+
+        model.addItem(call);
+        model.startReminders(Runnable::run, firedItems::add);
+        try {
+            assertNull(firedItems.poll(1500, TimeUnit.MILLISECONDS));
+            clock.advance(Duration.ofHours(1));
+            assertEquals(call, firedItems.poll(5, TimeUnit.SECONDS));
+        } finally {
+            model.stopReminders();
+        }
+    }
+
+    private static Item withEvent(String description, String start, long minutes) {
+        return new Item.ItemBuilder().setItemDescription(new ItemDescription(description))
+                .setEvent(new Event(LocalDateTime.parse(start), Duration.ofMinutes(minutes), null))
+                .build();
+    }
+}
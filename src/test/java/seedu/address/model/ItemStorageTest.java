@@ -0,0 +1,227 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.person.exceptions.DuplicateItemException;
+import seedu.address.testutil.TestItemBuilder;
+
+public class ItemStorageTest {
+
+    private static final Item QUIZ = new TestItemBuilder().withTags("school", "urgent").build();
+    private static final Item EXAM = new TestItemBuilder().withDescription("Final Exam")
+            .withEvent("2019-10-30T12:00", null, "low")
+            .withReminder("2019-10-29T12:00")
+            .build();
+
+    private static final Item LUNCH = new TestItemBuilder().withDescription("Lunch with Bob").build();
+
+    @Test
+    public void add_duplicateItem_throwsDuplicateItemException() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(QUIZ);
+        assertThrows(DuplicateItemException.class, () -> itemStorage.add(new TestItemBuilder(QUIZ).build()));
+    }
+
+    @Test
+    public void replace_itemInStorage_keepsPositionAndId() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(QUIZ);
+        itemStorage.add(EXAM);
+        itemStorage.add(LUNCH);
+
+        itemStorage.remove(QUIZ);
+        assertTrue(itemStorage.replace(EXAM, QUIZ));
+        itemStorage.add(EXAM);
+
+        assertEquals(Arrays.asList(QUIZ, LUNCH, EXAM), itemStorage.getItems());
+        assertEquals(1, itemStorage.getId(QUIZ));
+        assertEquals(3, itemStorage.getId(EXAM));
+        assertEquals(LUNCH, itemStorage.getById(2).get());
+        assertEquals(1, itemStorage.indexOf(LUNCH));
+        assertEquals(EXAM, itemStorage.get(2));
+        assertFalse(itemStorage.replace(new TestItemBuilder().withDescription("Missing").build(), QUIZ));
+    }
+
+    @Test
+    public void replace_withOtherItemInStorage_throwsDuplicateItemException() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(QUIZ);
+        itemStorage.add(EXAM);
+
+        assertThrows(DuplicateItemException.class, () -> itemStorage.replace(QUIZ, EXAM));
+        assertTrue(itemStorage.replace(QUIZ, new TestItemBuilder(QUIZ).build()));
+        assertEquals(Arrays.asList(QUIZ, EXAM), itemStorage.getItems());
+    }
+
+    @Test
+    public void find_keywords_itemsWithDescriptionOrTagInIdOrder() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(LUNCH);
+        itemStorage.add(QUIZ);
+        itemStorage.add(EXAM);
+
+        assertEquals(Arrays.asList(QUIZ, EXAM), itemStorage.find("EXAM", "urgent"));
+        assertEquals(Arrays.asList(QUIZ), itemStorage.find("quiz", "QUIZ"));
+        // keywords too short to be looked up in the index
+        assertEquals(Arrays.asList(LUNCH), itemStorage.find("b"));
+        assertEquals(Arrays.asList(), itemStorage.find("exam lunch"));
+    }
+
+    @Test
+    public void find_defaultLocaleFoldsDifferently_keywordsFoldedLikeText() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(LUNCH);
+        itemStorage.add(QUIZ);
+
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // In Turkish, "I".toLowerCase() is a dotless i.
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals(Arrays.asList(LUNCH), itemStorage.find("WITH"));
+            assertEquals(Arrays.asList(QUIZ), itemStorage.fuzzyFind("SCHOOL", "URGENT"));
+            assertEquals(Arrays.asList(LUNCH), itemStorage.fuzzyFind("WITH"));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void find_afterChanges_indexUpdated() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(QUIZ);
+        itemStorage.add(EXAM);
+        assertEquals(Arrays.asList(EXAM), itemStorage.find("final"));
+
+        Item finalLunch = new TestItemBuilder(LUNCH).withDescription("Final lunch").build();
+        itemStorage.replace(EXAM, LUNCH);
+        itemStorage.add(finalLunch);
+        ItemStorage copy = itemStorage.deepCopy();
+        itemStorage.remove(QUIZ);
+
+        assertEquals(Arrays.asList(finalLunch), itemStorage.find("final"));
+        assertEquals(Arrays.asList(LUNCH, finalLunch), itemStorage.find("lunch"));
+        assertEquals(Arrays.asList(), itemStorage.find("school"));
+        assertEquals(Arrays.asList(QUIZ), copy.find("school"));
+    }
+
+    @Test
+    public void fuzzyFind_typosAndPrefixes_rankedByMatch() {
+        Item examPrep = new TestItemBuilder().withDescription("Exams prep").build();
+        Item examiner = new TestItemBuilder().withDescription("Email the examiner").withTags("exam").build();
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(LUNCH);
+        itemStorage.add(examPrep);
+        itemStorage.add(EXAM);
+        itemStorage.add(QUIZ);
+        itemStorage.add(examiner);
+
+        // exact words, then completions, then words one edit away
+        assertEquals(Arrays.asList(EXAM, examiner, examPrep), itemStorage.fuzzyFind("exam"));
+        assertEquals(Arrays.asList(EXAM, examiner, examPrep), itemStorage.fuzzyFind("EXAN"));
+        // items matching more keywords come first
+        assertEquals(Arrays.asList(examPrep, EXAM, examiner), itemStorage.fuzzyFind("prep", "exam"));
+        assertEquals(Arrays.asList(QUIZ), itemStorage.fuzzyFind("urgnt"));
+        assertEquals(Arrays.asList(), itemStorage.fuzzyFind("xm"));
+    }
+
+    @Test
+    public void fuzzyFind_afterChanges_indexUpdated() {
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(QUIZ);
+        itemStorage.add(EXAM);
+        assertEquals(Arrays.asList(EXAM), itemStorage.fuzzyFind("finl"));
+
+        itemStorage.replace(EXAM, LUNCH);
+        itemStorage.remove(QUIZ);
+
+        assertEquals(Arrays.asList(), itemStorage.fuzzyFind("finl"));
+        assertEquals(Arrays.asList(), itemStorage.fuzzyFind("quiz"));
+        assertEquals(Arrays.asList(LUNCH), itemStorage.fuzzyFind("lunhc"));
+    }
+
+    @Test
+    public void takeSearchIndexesFrom_changedSinceCopy_indexesUpdated() {
+        ItemStorage replaced = new ItemStorage();
+        replaced.add(QUIZ);
+        replaced.add(EXAM);
+        ItemStorage restored = replaced.deepCopy();
+        replaced.replace(EXAM, LUNCH);
+        replaced.remove(QUIZ);
+        assertEquals(Arrays.asList(LUNCH), replaced.find("lunch"));
+        assertEquals(Arrays.asList(LUNCH), replaced.fuzzyFind("lunch"));
+
+        restored.takeSearchIndexesFrom(replaced);
+
+        assertEquals(Arrays.asList(EXAM), restored.find("final"));
+        assertEquals(Arrays.asList(), restored.find("lunch"));
+        assertEquals(Arrays.asList(QUIZ), restored.fuzzyFind("school"));
+        assertEquals(Arrays.asList(), restored.fuzzyFind("lunch"));
+        // the replaced storage builds its indexes again if it is searched after all
+        assertEquals(Arrays.asList(LUNCH), replaced.find("lunch"));
+    }
+
+    @Test
+    public void deepCopy_changedAfterCopy_copyUnchanged() {
+        ItemStorage original = new ItemStorage();
+        original.add(QUIZ);
+        original.add(EXAM);
+        ItemStorage copy = original.deepCopy();
+
+        original.remove(QUIZ);
+        original.replace(EXAM, LUNCH);
+
+        assertEquals(Arrays.asList(QUIZ, EXAM), copy.getItems());
+        assertEquals(1, copy.getId(EXAM));
+        assertEquals(2, copy.add(LUNCH));
+        assertEquals(1, copy.getPendingChanges().get().size());
+    }
+
+    @Test
+    public void fromJson_stream_sameAsSaved() throws Exception {
+        ItemStorage original = new ItemStorage();
+        original.add(QUIZ);
+        original.add(EXAM);
+
+        byte[] json = original.toJson().getBytes(StandardCharsets.UTF_8);
+        assertEquals(original, ItemStorage.fromJson(new ByteArrayInputStream(json)));
+        assertEquals(original, ItemStorage.fromJson(original.toJson()));
+    }
+
+    @Test
+    public void fromJson_unknownFieldsAndNumericDuration_itemRead() throws Exception {
+        String json = "[{\"itemDescription\":{\"description\":\"Meeting\"},\"unknown\":[1,{\"a\":2}],"
+                + "\"event\":{\"startDateTime\":\"2019-10-30T12:00:00\",\"duration\":5400.000000000,"
+                + "\"priority\":\"HIGH\"},\"task\":null,\"tags\":[{\"tagName\":\"work\"}]}]";
+
+        Item item = ItemStorage.fromJson(json).get(0);
+        assertEquals("Meeting", item.getItemDescription().getDescription());
+        assertEquals(Duration.ofMinutes(90), item.getEvent().get().getDuration());
+        assertEquals(1, item.getTags().size());
+    }
+
+    @Test
+    public void fromJson_missingDescription_throwsDataConversionException() {
+        String json = "[{\"reminder\":{\"dateTime\":\"2019-10-29T12:00:00\"},\"tags\":[]}]";
+        assertThrows(DataConversionException.class, () -> ItemStorage.fromJson(json));
+    }
+
+    @Test
+    public void fromJson_notJsonArray_throwsIoException() {
+        assertThrows(IOException.class, () -> ItemStorage.fromJson("{\"items\":[]}"));
+        assertThrows(IOException.class, () -> ItemStorage.fromJson("[{\"itemDescription\":"));
+    }
+}
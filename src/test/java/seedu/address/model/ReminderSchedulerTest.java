@@ -0,0 +1,94 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.commons.core.item.ItemDescription;
+import seedu.address.commons.core.item.Reminder;
+import seedu.address.testutil.TestClock;
+
+public class ReminderSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.parse("2019-10-01T09:00");
+
+    private TestClock clock;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        clock = new TestClock(NOW);
+        scheduler = new ReminderScheduler(clock);
+    }
+
+    @Test
+    public void pollDueReminders_remindersBeyondWindow_pagedInAsWindowMoves() {
+        Item past = withReminder("Past", NOW.minusDays(30));
+        Item soon = withReminder("Soon", NOW.plusHours(1));
+        Item tomorrow = withReminder("Tomorrow", NOW.plusHours(30));
+        Item nextYear = withReminder("Next year", NOW.plusDays(365));
+        scheduler.reset(ItemStorage.fromItems(Arrays.asList(past, soon, tomorrow, nextYear)));
+
+        // only the reminder within the window is kept, and the past one never fires
+        assertEquals(Collections.emptyList(), scheduler.pollDueReminders());
+        assertEquals(1, scheduler.size());
+
+        clock.advance(Duration.ofHours(1));
+        assertEquals(Arrays.asList(soon), scheduler.pollDueReminders());
+        assertEquals(0, scheduler.size());
+
+        clock.advance(Duration.ofHours(6));
+        assertEquals(Collections.emptyList(), scheduler.pollDueReminders());
+        assertEquals(1, scheduler.size());
+
+        clock.advance(Duration.ofHours(23));
+        assertEquals(Arrays.asList(tomorrow), scheduler.pollDueReminders());
+        clock.advance(Duration.ofDays(363));
+        assertEquals(Collections.emptyList(), scheduler.pollDueReminders());
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    public void scheduleAndCancel_insideAndBeyondWindow_firesLatestReminders() {
+        Item soon = withReminder("Soon", NOW.plusHours(1));
+        ItemStorage items = ItemStorage.fromItems(Arrays.asList(soon));
+        scheduler.reset(items.deepCopy());
+        scheduler.pollDueReminders();
+
+        // moved beyond the window, it is paged in again later
+        Item later = withReminder("Soon", NOW.plusHours(48));
+        items.replace(soon, later);
+        scheduler.schedule(items.getId(later), later);
+        scheduler.setSource(items.deepCopy());
+        assertEquals(0, scheduler.size());
+
+        Item added = withReminder("Added", NOW.plusHours(2));
+        items.add(added);
+        scheduler.schedule(items.getId(added), added);
+        scheduler.setSource(items.deepCopy());
+        assertEquals(1, scheduler.size());
+
+        int addedId = items.getId(added);
+        items.remove(added);
+        scheduler.cancel(addedId);
+        scheduler.setSource(items.deepCopy());
+
+        clock.advance(Duration.ofHours(47));
+        assertEquals(Collections.emptyList(), scheduler.pollDueReminders());
+        clock.advance(Duration.ofHours(1));
+        assertEquals(Arrays.asList(later), scheduler.pollDueReminders());
+    }
+
+    private static Item withReminder(String description, LocalDateTime dateTime) {
+        return new Item.ItemBuilder().setItemDescription(new ItemDescription(description))
+                .setReminder(new Reminder(dateTime))
+                .build();
+    }
+}
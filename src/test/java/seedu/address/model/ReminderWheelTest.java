@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.testutil.TestItemBuilder;
+
+public class ReminderWheelTest {
+
+    private static final Item QUIZ = new TestItemBuilder().withDescription("Quiz").build();
+    private static final Item EXAM = new TestItemBuilder().withDescription("Exam").build();
+    private static final long START = 1_000_000_000L;
+
+    @Test
+    public void advance_remindersAtEveryLevel_fireInTheirSecond() {
+        ReminderWheel wheel = new ReminderWheel(START);
+        long inMinutes = START + 150;
+        long inYears = START + 3L * 365 * 24 * 3600;
+        wheel.schedule(1, QUIZ, inYears);
+        wheel.schedule(2, EXAM, inMinutes);
+
+        assertEquals(Collections.emptyList(), wheel.advance(inMinutes - 1));
+        assertEquals(Arrays.asList(EXAM), wheel.advance(inMinutes));
+        assertEquals(Collections.emptyList(), wheel.advance(inYears - 1));
+        assertEquals(Arrays.asList(QUIZ), wheel.advance(inYears));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void advance_beyondReachOfWheel_firesWhenDue() {
+        ReminderWheel wheel = new ReminderWheel(START);
+        long inCenturies = START + 200L * 365 * 24 * 3600;
+        wheel.schedule(1, QUIZ, inCenturies);
+
+        assertEquals(Collections.emptyList(), wheel.advance(inCenturies - 1));
+        assertEquals(Arrays.asList(QUIZ), wheel.advance(inCenturies));
+    }
+
+    @Test
+    public void scheduleAndCancel_sameId_onlyLatestReminderFires() {
+        ReminderWheel wheel = new ReminderWheel(START);
+        wheel.schedule(1, QUIZ, START + 10);
+        wheel.schedule(1, EXAM, START + 5000);
+        assertEquals(1, wheel.size());
+        assertEquals(Collections.emptyList(), wheel.advance(START + 4999));
+        assertEquals(Arrays.asList(EXAM), wheel.advance(START + 5000));
+
+        wheel.schedule(2, QUIZ, START + 6000);
+        assertTrue(wheel.cancel(2));
+        assertFalse(wheel.cancel(2));
+        assertEquals(Collections.emptyList(), wheel.advance(START + 7000));
+
+        // a reminder that has already passed fires in the next second processed
+        wheel.schedule(3, QUIZ, START);
+        assertEquals(Arrays.asList(QUIZ), wheel.advance(START + 7001));
+    }
+
+    @Test
+    public void advance_randomSchedulesAndCancels_sameAsCheckingEveryReminder() {
+        Random random = new Random(15);
+        ReminderWheel wheel = new ReminderWheel(START);
+        Map<Integer, Item> scheduled = new HashMap<>();
+        Map<Item, Long> dueSeconds = new HashMap<>();
+        long now = START - 1;
+
+        for (int round = 0; round < 2000; round++) {
+            int id = random.nextInt(300);
+            if (random.nextInt(4) == 0) {
+                assertEquals(scheduled.remove(id) != null, wheel.cancel(id));
+            } else {
+                // delays of up to about two weeks, spread over the lower four levels of the wheel
+                long due = now + 1 + (long) Math.pow(2, random.nextDouble() * 20);
+                Item item = new TestItemBuilder().withDescription("Item " + round).build();
+                wheel.schedule(id, item, due);
+                scheduled.put(id, item);
+                dueSeconds.put(item, due);
+            }
+
+            long to = now + random.nextInt(5000);
+            Set<Item> expectedDue = new HashSet<>();
+            scheduled.values().removeIf(item -> dueSeconds.get(item) <= to && expectedDue.add(item));
+
+            List<Item> actualDue = wheel.advance(to);
+            assertEquals(expectedDue, new HashSet<>(actualDue));
+            assertEquals(expectedDue.size(), actualDue.size());
+            for (int i = 1; i < actualDue.size(); i++) {
+                assertTrue(dueSeconds.get(actualDue.get(i - 1)) <= dueSeconds.get(actualDue.get(i)));
+            }
+            assertEquals(scheduled.size(), wheel.size());
+            now = to;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.item;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.item.Item;
+import seedu.address.testutil.TestItemBuilder;
+
+public class VisualizeListTest {
+
+    private static final Item LUNCH = new TestItemBuilder().withDescription("Lunch")
+            .withEvent("2019-09-26T12:00", null, "HIGH").build();
+    private static final Item BREAKFAST = new TestItemBuilder().withDescription("Breakfast")
+            .withEvent("2019-09-26T08:00", null, "HIGH").build();
+    private static final Item DINNER = new TestItemBuilder().withDescription("Dinner")
+            .withEvent("2019-09-26T19:00", null, "HIGH").build();
+
+    private EventList eventList;
+    private List<String> changes;
+
+    @BeforeEach
+    public void setUp() {
+        eventList = new EventList();
+        eventList.getList().addAll(Arrays.asList(LUNCH, DINNER, BREAKFAST));
+        changes = new ArrayList<>();
+        eventList.addListener((ListChangeListener<Item>) this::recordChange);
+    }
+
+    @Test
+    public void add_item_oneAddition() {
+        eventList.add(LUNCH);
+        assertEquals(Collections.singletonList("[added 3-4]"), changes);
+    }
+
+    @Test
+    public void remove_itemAndIndex_oneRemovalEach() {
+        eventList.remove(DINNER);
+        eventList.remove(0);
+        eventList.remove(DINNER);
+
+        assertEquals(Arrays.asList("[removed 1 Dinner]", "[removed 0 Lunch]"), changes);
+        assertEquals(Collections.singletonList(BREAKFAST), eventList.getList());
+    }
+
+    @Test
+    public void setItem_item_oneReplacement() {
+        eventList.setItem(1, BREAKFAST);
+        assertEquals(Collections.singletonList("[replaced 1-2 Dinner]"), changes);
+    }
+
+    @Test
+    public void sort_unsortedList_onePermutation() {
+        eventList.sort();
+
+        assertEquals(Arrays.asList(BREAKFAST, LUNCH, DINNER), eventList.getList());
+        // Lunch moves from 0 to 1, dinner from 1 to 2 and breakfast from 2 to 0.
+        assertEquals(Collections.singletonList("[permutated 1 2 0]"), changes);
+    }
+
+    @Test
+    public void clearAndSetAll_items_oneChangeEach() {
+        eventList.setAll(Arrays.asList(DINNER, LUNCH));
+        eventList.clear();
+        eventList.clear();
+
+        assertEquals(Arrays.asList("[replaced 0-2 Lunch Dinner Breakfast]", "[removed 0 Dinner Lunch]"), changes);
+        assertTrue(eventList.isEmpty());
+    }
+
+    @Test
+    public void getList_changedDirectly_noChange() {
+        eventList.getList().add(LUNCH);
+        assertFalse(eventList.getList().isEmpty());
+        assertTrue(changes.isEmpty());
+    }
+
+    private void recordChange(ListChangeListener.Change<? extends Item> change) {
+        StringBuilder description = new StringBuilder();
+        while (change.next()) {
+            description.append("[");
+            if (change.wasPermutated()) {
+                description.append("permutated");
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    description.append(" ").append(change.getPermutation(i));
+                }
+            } else if (change.wasReplaced()) {
+                description.append("replaced ").append(change.getFrom()).append("-").append(change.getTo());
+                change.getRemoved().forEach(item -> description.append(" ").append(item.getItemDescription()));
+            } else if (change.wasAdded()) {
+                description.append("added ").append(change.getFrom()).append("-").append(change.getTo());
+            } else if (change.wasRemoved()) {
+                description.append("removed ").append(change.getFrom());
+                change.getRemoved().forEach(item -> description.append(" ").append(item.getItemDescription()));
+            }
+            description.append("]");
+        }
+        changes.add(description.toString());
+    }
+}
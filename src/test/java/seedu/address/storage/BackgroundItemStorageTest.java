@@ -0,0 +1,118 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.EXAM;
+import static seedu.address.testutil.TypicalItems.HOMEWORK;
+import static seedu.address.testutil.TypicalItems.PARTY;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ItemStorage;
+
+public class BackgroundItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveItemStorage_changesThenFlush_journalled() throws Exception {
+        Path filePath = testFolder.resolve("items.json");
+        JournalItemStorage journalStorage = new JournalItemStorage(filePath);
+        BackgroundItemStorage storage = new BackgroundItemStorage(journalStorage);
+
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(HOMEWORK);
+        storage.saveItemStorage(itemStorage);
+        storage.flush();
+        String snapshot = new String(Files.readAllBytes(filePath));
+
+        for (int i = 0; i < 10; i++) {
+            itemStorage.add(EXAM);
+            storage.saveItemStorage(itemStorage);
+            itemStorage.remove(EXAM);
+            storage.saveItemStorage(itemStorage);
+        }
+        itemStorage.add(PARTY);
+        itemStorage.replace(HOMEWORK, EXAM);
+        storage.saveItemStorage(itemStorage);
+        storage.flush();
+
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath)));
+        assertEquals(itemStorage, new JournalItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toModelType_thenChanges_savedOnTopOfLoadedItems() throws Exception {
+        Path filePath = testFolder.resolve("items.json");
+        ItemStorage original = new ItemStorage();
+        original.add(HOMEWORK);
+        new JournalItemStorage(filePath).saveItemStorage(original);
+
+        BackgroundItemStorage storage = new BackgroundItemStorage(new JournalItemStorage(filePath));
+        ItemStorage itemStorage = storage.toModelType();
+        itemStorage.add(EXAM);
+        storage.saveItemStorage(itemStorage);
+        ItemStorage cleared = new ItemStorage();
+        cleared.add(PARTY);
+        storage.saveItemStorage(cleared);
+        storage.flush();
+
+        assertEquals(cleared, new JournalItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoExceptionThenRewrites() throws Exception {
+        FailingItemListStorage failingStorage = new FailingItemListStorage();
+        BackgroundItemStorage storage = new BackgroundItemStorage(failingStorage);
+        ItemStorage itemStorage = new ItemStorage();
+        itemStorage.add(HOMEWORK);
+
+        failingStorage.isFailing = true;
+        storage.saveItemStorage(itemStorage);
+        assertThrows(IOException.class, storage::flush);
+
+        failingStorage.isFailing = false;
+        itemStorage.add(EXAM);
+        storage.saveItemStorage(itemStorage);
+        storage.flush();
+        assertEquals(itemStorage, failingStorage.saved);
+    }
+
+    /**
+     * An item list storage that keeps what it is given, or fails to save when asked to.
+     */
+    private static class FailingItemListStorage implements ItemListStorage {
+        private volatile boolean isFailing = false;
+        private volatile ItemStorage saved = null;
+
+        @Override
+        public Path getItemListFilePath() {
+            return Paths.get("items.json");
+        }
+
+        @Override
+        public void saveItemStorage(ItemStorage itemStorage) throws IOException {
+            if (isFailing) {
+                throw new IOException("Disk full");
+            }
+            saved = itemStorage.deepCopy();
+        }
+
+        @Override
+        public void saveItemStorage(ItemStorage itemStorage, Path filePath) throws IOException {
+            saveItemStorage(itemStorage);
+        }
+
+        @Override
+        public ItemStorage toModelType() {
+            return saved;
+        }
+    }
+}
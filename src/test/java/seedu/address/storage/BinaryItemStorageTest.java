@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ItemStorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ItemStorage;
+import seedu.address.testutil.TypicalItems;
+
+public class BinaryItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("items.bin");
+    }
+
+    @Test
+    public void saveItemStorage_allItems_readBackEqual() throws Exception {
+        BinaryItemStorage storage = new BinaryItemStorage(filePath);
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+
+        assertTrue(BinaryItemStorage.isBinaryFile(filePath));
+        assertEquals(itemStorage, new BinaryItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toBinary_smallerThanJson() throws Exception {
+        ItemStorage itemStorage = getItemStorage();
+        assertTrue(BinaryItemStorage.toBinary(itemStorage).length < itemStorage.toJson().length());
+    }
+
+    @Test
+    public void toModelType_damagedFile_throwsDataConversionException() throws Exception {
+        byte[] content = BinaryItemStorage.toBinary(getItemStorage());
+
+        byte[] flipped = content.clone();
+        flipped[content.length / 2] ^= 1;
+        Files.write(filePath, flipped);
+        assertThrows(DataConversionException.class, () -> new BinaryItemStorage(filePath).toModelType());
+
+        Files.write(filePath, Arrays.copyOf(content, content.length - 5));
+        assertThrows(DataConversionException.class, () -> new BinaryItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void migrate_jsonToBinaryAndBack_lossless() throws Exception {
+        Path jsonPath = testFolder.resolve("items.json");
+        Path backPath = testFolder.resolve("back.json");
+        ItemStorage itemStorage = getItemStorage();
+        new JsonItemStorage(jsonPath).saveItemStorage(itemStorage);
+
+        assertEquals(ItemStorageFormat.BINARY, ItemStorageMigrator.migrate(jsonPath, filePath));
+        assertFalse(BinaryItemStorage.isBinaryFile(jsonPath));
+        assertEquals(itemStorage, new BinaryItemStorage(filePath).toModelType());
+
+        assertEquals(ItemStorageFormat.JSON, ItemStorageMigrator.migrate(filePath, backPath));
+        assertEquals(itemStorage, new JsonItemStorage(backPath).toModelType());
+    }
+
+    /**
+     * Returns the typical items, with items that have a task, an event with a duration and a reminder before the
+     * epoch, so that every field is written.
+     */
+    private static ItemStorage getItemStorage() {
+        ItemStorage itemStorage = TypicalItems.getTypicalItemList();
+        itemStorage.add(TypicalItems.READING);
+        itemStorage.add(TypicalItems.BIRTHDAY);
+        itemStorage.add(TypicalItems.NOTE);
+        return itemStorage;
+    }
+}
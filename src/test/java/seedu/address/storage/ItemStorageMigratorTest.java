@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalItems.PARTY;
+import static seedu.address.testutil.TypicalItems.getTypicalItemList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ItemStorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ItemStorage;
+
+public class ItemStorageMigratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ItemStorage itemStorage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("items.json");
+        itemStorage = getTypicalItemList();
+        itemStorage.add(PARTY);
+    }
+
+    @Test
+    public void detectFormat_eachFormat_detectedFromContent() throws Exception {
+        for (ItemStorageFormat format : ItemStorageFormat.values()) {
+            Path path = testFolder.resolve(format.name());
+            ItemStorageMigrator.createStorage(path, format).saveItemStorage(itemStorage);
+
+            ItemStorageFormat fileFormat = ItemStorageMigrator.detectFormat(path);
+            assertTrue(ItemStorageMigrator.canRead(format, fileFormat));
+            assertEquals(itemStorage, ItemStorageMigrator.createStorage(path, fileFormat).toModelType());
+        }
+        assertFalse(ItemStorageMigrator.canRead(ItemStorageFormat.BINARY, ItemStorageFormat.JSON));
+        assertFalse(ItemStorageMigrator.canRead(ItemStorageFormat.JSON, ItemStorageFormat.SHARDED));
+    }
+
+    @Test
+    public void convert_jsonToMapped_oldFileKeptAsBackup() throws Exception {
+        new JsonItemStorage(filePath).saveItemStorage(itemStorage);
+
+        Path backupPath = ItemStorageMigrator.convert(filePath, ItemStorageFormat.JSON, ItemStorageFormat.MAPPED);
+
+        assertEquals(ItemStorageFormat.BINARY, ItemStorageMigrator.detectFormat(filePath));
+        assertEquals(itemStorage, new MappedItemStorage(filePath).toModelType());
+        assertEquals(ItemStorageFormat.JSON, ItemStorageMigrator.detectFormat(backupPath));
+        assertEquals(itemStorage, new JsonItemStorage(backupPath).toModelType());
+    }
+
+    @Test
+    public void convert_shardedToJson_oldFileKeptAsBackup() throws Exception {
+        new ShardedItemStorage(filePath).saveItemStorage(itemStorage);
+
+        Path backupPath = ItemStorageMigrator.convert(filePath, ItemStorageFormat.SHARDED, ItemStorageFormat.JSON);
+
+        assertEquals(ItemStorageFormat.JSON, ItemStorageMigrator.detectFormat(filePath));
+        assertEquals(itemStorage, new JournalItemStorage(filePath).toModelType());
+        assertEquals(itemStorage, new ShardedItemStorage(backupPath).toModelType());
+    }
+
+    @Test
+    public void convert_damagedFile_leftAsItIs() throws Exception {
+        // an item without a description
+        String content = "[{\"tags\": []}]";
+        Files.write(filePath, content.getBytes());
+
+        assertThrows(DataConversionException.class, () ->
+                ItemStorageMigrator.convert(filePath, ItemStorageFormat.JSON, ItemStorageFormat.BINARY));
+        assertEquals(content, new String(Files.readAllBytes(filePath)));
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalItems.EXAM;
+import static seedu.address.testutil.TypicalItems.HOMEWORK;
+import static seedu.address.testutil.TypicalItems.ITEM_1;
+import static seedu.address.testutil.TypicalItems.ITEM_2;
+import static seedu.address.testutil.TypicalItems.getTypicalItemList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ItemStorage;
+
+public class JournalItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("items.json");
+    }
+
+    @Test
+    public void saveItemStorage_changesAfterSnapshot_appendedToJournal() throws Exception {
+        JournalItemStorage storage = new JournalItemStorage(filePath);
+        ItemStorage itemStorage = getTypicalItemList();
+        storage.saveItemStorage(itemStorage);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        itemStorage.add(ITEM_1);
+        itemStorage.remove(HOMEWORK);
+        itemStorage.setItem(itemStorage.indexOf(EXAM), ITEM_2);
+        storage.saveItemStorage(itemStorage);
+
+        // the snapshot is untouched, only the journal grows
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(itemStorage, new JournalItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void saveItemStorage_differentItemStorage_writesSnapshot() throws Exception {
+        JournalItemStorage storage = new JournalItemStorage(filePath);
+        storage.saveItemStorage(getTypicalItemList());
+
+        ItemStorage cleared = new ItemStorage();
+        storage.saveItemStorage(cleared);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(cleared, new JournalItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void saveItemStorage_journalPastThreshold_compacted() throws Exception {
+        JournalItemStorage storage = new JournalItemStorage(filePath);
+        ItemStorage itemStorage = getTypicalItemList();
+        storage.saveItemStorage(itemStorage);
+
+        for (int i = 0; i <= JournalItemStorage.COMPACTION_THRESHOLD / 2; i++) {
+            itemStorage.add(ITEM_1);
+            storage.saveItemStorage(itemStorage);
+            itemStorage.remove(ITEM_1);
+            storage.saveItemStorage(itemStorage);
+        }
+
+        assertTrue(Files.readAllLines(storage.getJournalFilePath()).size() <= JournalItemStorage.COMPACTION_THRESHOLD);
+        assertEquals(itemStorage, new JournalItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toModelType_staleJournal_ignored() throws Exception {
+        JournalItemStorage storage = new JournalItemStorage(filePath);
+        ItemStorage itemStorage = getTypicalItemList();
+        storage.saveItemStorage(itemStorage);
+        itemStorage.add(ITEM_1);
+        storage.saveItemStorage(itemStorage);
+        Path staleJournal = testFolder.resolve("stale.journal");
+        Files.copy(storage.getJournalFilePath(), staleJournal);
+
+        // a compaction that was interrupted before the journal was reset
+        ItemStorage compacted = getTypicalItemList();
+        compacted.add(ITEM_1);
+        storage.saveItemStorage(compacted);
+        Files.copy(staleJournal, storage.getJournalFilePath(), StandardCopyOption.REPLACE_EXISTING);
+
+        assertEquals(compacted, new JournalItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toModelType_partialLastRecord_ignored() throws Exception {
+        JournalItemStorage storage = new JournalItemStorage(filePath);
+        ItemStorage itemStorage = getTypicalItemList();
+        storage.saveItemStorage(itemStorage);
+        itemStorage.add(ITEM_1);
+        storage.saveItemStorage(itemStorage);
+        FileUtil.appendToFile(storage.getJournalFilePath(), "{\"op\":\"ADD\",\"item\":{\"itemDesc");
+
+        JournalItemStorage reloadedStorage = new JournalItemStorage(filePath);
+        ItemStorage reloaded = reloadedStorage.toModelType();
+        assertEquals(itemStorage, reloaded);
+
+        // the damaged journal is replaced, so later records are not lost behind the partial one
+        reloaded.add(ITEM_2);
+        reloadedStorage.saveItemStorage(reloaded);
+        ItemStorage expected = new JournalItemStorage(filePath).toModelType();
+        assertEquals(reloaded, expected);
+        assertFalse(expected.getItems().isEmpty());
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalItems.EXAM;
+import static seedu.address.testutil.TypicalItems.HOMEWORK;
+import static seedu.address.testutil.TypicalItems.PARTY;
+import static seedu.address.testutil.TypicalItems.getTypicalItemList;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ItemStorage;
+
+public class MappedItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("items.bin");
+    }
+
+    @Test
+    public void toModelType_itemsDecodedOnlyWhenUsed() throws Exception {
+        ItemStorage itemStorage = getItemStorage();
+        new MappedItemStorage(filePath).saveItemStorage(itemStorage);
+
+        ItemStorage loaded = new MappedItemStorage(filePath).toModelType();
+        assertEquals(3, loaded.size());
+        assertTrue(loaded.get(1).hasEvent());
+        assertFalse(loaded.get(1).isDecoded());
+
+        assertEquals(EXAM.getItemDescription(), loaded.get(1).getItemDescription());
+        assertTrue(loaded.get(1).isDecoded());
+        assertFalse(loaded.get(0).isDecoded());
+
+        assertEquals(itemStorage, loaded);
+    }
+
+    @Test
+    public void toModelType_changed_sameAsEagerStorage() throws Exception {
+        new MappedItemStorage(filePath).saveItemStorage(getItemStorage());
+
+        ItemStorage loaded = new MappedItemStorage(filePath).toModelType();
+        loaded.remove(HOMEWORK);
+        loaded.add(HOMEWORK);
+        assertEquals(1, loaded.indexOf(PARTY));
+        assertEquals(2, loaded.getId(PARTY));
+
+        new MappedItemStorage(filePath).saveItemStorage(loaded);
+        assertEquals(loaded, new BinaryItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toModelType_fileOverwrittenBeforeDecoding_itemsReadUnchanged() throws Exception {
+        ItemStorage itemStorage = getItemStorage();
+        new MappedItemStorage(filePath).saveItemStorage(itemStorage);
+
+        ItemStorage loaded = new MappedItemStorage(filePath).toModelType();
+        Files.write(filePath, new byte[(int) Files.size(filePath)]);
+        Files.delete(filePath);
+
+        assertFalse(loaded.get(0).isDecoded());
+        assertEquals(itemStorage, loaded);
+    }
+
+    @Test
+    public void toJson_itemsNotDecoded_writtenWithTheirFields() throws Exception {
+        ItemStorage itemStorage = getItemStorage();
+        new MappedItemStorage(filePath).saveItemStorage(itemStorage);
+
+        ItemStorage loaded = new MappedItemStorage(filePath).toModelType();
+        assertEquals(itemStorage.toJson(), loaded.toJson());
+        assertEquals(EXAM.toJson(), loaded.get(1).toJson());
+    }
+
+    @Test
+    public void toModelType_damagedIndex_throwsDataConversionException() throws Exception {
+        byte[] content = BinaryItemStorage.toBinary(getItemStorage());
+        ByteBuffer.wrap(content).putInt(content.length - 8, content.length);
+        Files.write(filePath, content);
+
+        assertThrows(DataConversionException.class, () -> BinaryItemStorage.fromMappedFile(filePath));
+        assertThrows(DataConversionException.class, () -> new MappedItemStorage(filePath).toModelType());
+    }
+
+    @Test
+    public void toModelType_damagedItem_throwsDataConversionException() throws Exception {
+        byte[] content = BinaryItemStorage.toBinary(getItemStorage());
+        // the last byte of the last item, just before the index
+        int indexOffset = ByteBuffer.wrap(content).getInt(content.length - 8);
+        content[indexOffset - 1] ^= 1;
+        Files.write(filePath, content);
+
+        assertThrows(DataConversionException.class, () -> BinaryItemStorage.fromMappedFile(filePath));
+        assertThrows(DataConversionException.class, () -> new MappedItemStorage(filePath).toModelType());
+    }
+
+    private static ItemStorage getItemStorage() {
+        ItemStorage itemStorage = getTypicalItemList();
+        itemStorage.add(PARTY);
+        return itemStorage;
+    }
+}
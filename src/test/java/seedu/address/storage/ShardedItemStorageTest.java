@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalItems.BIRTHDAY;
+import static seedu.address.testutil.TypicalItems.EXAM;
+import static seedu.address.testutil.TypicalItems.QUIZ;
+import static seedu.address.testutil.TypicalItems.READING;
+import static seedu.address.testutil.TypicalItems.getTypicalItemList;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ItemStorage;
+
+public class ShardedItemStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("items.json");
+    }
+
+    @Test
+    public void saveItemStorage_splitByKindAndMonth_readBackInOrder() throws Exception {
+        ShardedItemStorage storage = new ShardedItemStorage(filePath);
+        ItemStorage itemStorage = getItemStorage();
+        storage.saveItemStorage(itemStorage);
+
+        assertEquals(new HashSet<>(Arrays.asList("tasks", "events-2018-12", "events-2019-09", "events-2019-10",
+                "events-2019-11")),
+                getShardKeys(storage.getShardDirectoryPath()));
+        ItemStorage loaded = new ShardedItemStorage(filePath).toModelType();
+        assertEquals(itemStorage.getItems(), loaded.getItems());
+    }
+
+    @Test
+    public void saveItemStorage_changedItems_onlyTheirShardsWritten() throws Exception {
+        new ShardedItemStorage(filePath).saveItemStorage(getItemStorage());
+        ShardedItemStorage storage = new ShardedItemStorage(filePath);
+        ItemStorage itemStorage = storage.toModelType();
+        Set<String> filesBefore = getShardFiles(storage.getShardDirectoryPath());
+
+        itemStorage.remove(EXAM);
+        itemStorage.add(EXAM);
+        storage.saveItemStorage(itemStorage);
+
+        Set<String> filesAfter = getShardFiles(storage.getShardDirectoryPath());
+        assertEquals(5, filesAfter.size());
+        assertEquals(4, filesBefore.stream().filter(filesAfter::contains).count());
+        assertTrue(filesAfter.stream().anyMatch(file -> file.startsWith("events-2019-10.")
+                && !filesBefore.contains(file)));
+        assertEquals(itemStorage.getItems(), new ShardedItemStorage(filePath).toModelType().getItems());
+
+        itemStorage.remove(QUIZ);
+        storage.saveItemStorage(itemStorage);
+        assertFalse(getShardKeys(storage.getShardDirectoryPath()).contains("events-2019-09"));
+        assertEquals(itemStorage.getItems(), new ShardedItemStorage(filePath).toModelType().getItems());
+    }
+
+    @Test
+    public void toModelType_fromMonth_olderShardsSkipped() throws Exception {
+        ShardedItemStorage storage = new ShardedItemStorage(filePath);
+        storage.saveItemStorage(getItemStorage());
+        for (String file : getShardFiles(storage.getShardDirectoryPath())) {
+            if (file.startsWith("events-2019-09.")) {
+                Files.delete(storage.getShardDirectoryPath().resolve(file));
+            }
+        }
+
+        ItemStorage current = storage.toModelType(YearMonth.of(2019, 10));
+        assertEquals(Arrays.asList(EXAM, READING, BIRTHDAY), current.getItems());
+    }
+
+    @Test
+    public void toModelType_invalidManifest_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(filePath, "{\"shards\": [{\"key\": \"tasks\", \"file\": \"../items.json\"}]}");
+        assertThrows(DataConversionException.class, () -> new ShardedItemStorage(filePath).toModelType());
+
+        FileUtil.writeToFile(filePath, "not a manifest");
+        assertThrows(DataConversionException.class, () -> new ShardedItemStorage(filePath).toModelType());
+    }
+
+    /**
+     * Returns the typical items, whose events are in December 2018 and October 2019, with a task and events in the
+     * months on either side of October 2019.
+     */
+    private static ItemStorage getItemStorage() {
+        ItemStorage itemStorage = getTypicalItemList();
+        itemStorage.add(READING);
+        itemStorage.add(QUIZ);
+        itemStorage.add(BIRTHDAY);
+        return itemStorage;
+    }
+
+    private static Set<String> getShardFiles(Path shardDirectoryPath) throws Exception {
+        try (Stream<Path> files = Files.list(shardDirectoryPath)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<String> getShardKeys(Path shardDirectoryPath) throws Exception {
+        return getShardFiles(shardDirectoryPath).stream().map(file -> file.substring(0, file.indexOf('.')))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.testutil;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * A clock that only moves when it is told to. It may be read from another thread, such as a scheduler's.
+ */
+public class TestClock extends Clock {
+    private volatile Instant instant;
+
+    public TestClock(LocalDateTime dateTime) {
+        this.instant = dateTime.toInstant(ZoneOffset.UTC);
+    }
+
+    public void advance(Duration duration) {
+        instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
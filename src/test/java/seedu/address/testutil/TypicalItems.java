@@ -12,12 +12,21 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_REMINDER_2;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_1;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_2;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import seedu.address.commons.core.item.Event;
 import seedu.address.commons.core.item.Item;
+import seedu.address.commons.core.item.Item.ItemBuilder;
+import seedu.address.commons.core.item.ItemDescription;
+import seedu.address.commons.core.item.Priority;
+import seedu.address.commons.core.item.Reminder;
+import seedu.address.commons.core.item.Task;
 import seedu.address.model.ItemStorage;
+import seedu.address.model.util.SampleDataUtil;
 
 /**
  * A utility class containing a list of {@code Item} objects to be used in tests.
@@ -25,15 +34,38 @@ import seedu.address.model.ItemStorage;
 public class TypicalItems {
 
     public static final Item HOMEWORK = new TestItemBuilder().withDescription("Do all homework")
-            .withEvent("2018-12-30T19:34:50.63", null, null)
+            .withEvent("2018-12-30T19:34:50.63", null, "MEDIUM")
             .withReminder("2018-12-29T19:34:50.63")
             .build();
 
     public static final Item EXAM = new TestItemBuilder().withDescription("Final Exam")
-            .withEvent("2019-10-30T12:00", null, null)
+            .withEvent("2019-10-30T12:00", null, "LOW")
             .withReminder("2019-10-29T12:00")
             .build();
 
+    public static final Item QUIZ = new TestItemBuilder().withDescription("Quiz")
+            .withEvent("2019-09-26T23:59", null, "HIGH")
+            .build();
+
+    public static final Item PARTY = new TestItemBuilder().withDescription("Party")
+            .withTags("fun")
+            .build();
+
+    // Built directly, as the test item builder cannot give an event a duration or make a task
+    public static final Item BIRTHDAY = new ItemBuilder().setItemDescription(new ItemDescription("Birthday"))
+            .setEvent(new Event(LocalDateTime.parse("2019-11-02T10:00"), Duration.ofMinutes(150), Priority.MEDIUM))
+            .build();
+
+    public static final Item READING = new ItemBuilder().setItemDescription(new ItemDescription("Read chapter 3"))
+            .setTask(new Task(Priority.LOW, true))
+            .setTags(SampleDataUtil.getTagSet("school", "urgent"))
+            .build();
+
+    // A reminder just before the epoch, with a description that is not ASCII
+    public static final Item NOTE = new ItemBuilder().setItemDescription(new ItemDescription("Caf\u00e9 note"))
+            .setReminder(new Reminder(LocalDateTime.of(1969, 12, 31, 23, 59, 58, 500)))
+            .build();
+
     // Manually added - Item's detail found in {@code CommandTestUtil}
     public static final Item ITEM_1 = new TestItemBuilder().withDescription(VALID_DESCRIPTION_1)
                 .withEvent(VALID_EVENT_1, VALID_DURATION_NULL, VALID_PRIORITY_HIGH)
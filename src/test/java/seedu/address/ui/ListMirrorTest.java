@@ -0,0 +1,82 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.item.Item;
+import seedu.address.model.item.EventList;
+import seedu.address.testutil.TestItemBuilder;
+
+public class ListMirrorTest {
+
+    private static final Item LUNCH = new TestItemBuilder().withDescription("Lunch")
+            .withEvent("2019-09-26T12:00", null, "HIGH").build();
+    private static final Item BREAKFAST = new TestItemBuilder().withDescription("Breakfast")
+            .withEvent("2019-09-26T08:00", null, "HIGH").build();
+    private static final Item DINNER = new TestItemBuilder().withDescription("Dinner")
+            .withEvent("2019-09-26T19:00", null, "HIGH").build();
+
+    private Queue<Runnable> uiThread;
+    private ListMirror<Item> listMirror;
+    private EventList eventList;
+
+    @BeforeEach
+    public void setUp() {
+        uiThread = new ArrayDeque<>();
+        listMirror = new ListMirror<>(uiThread::add);
+        eventList = new EventList();
+        eventList.add(LUNCH);
+        eventList.add(DINNER);
+    }
+
+    @Test
+    public void follow_changesMade_copiedOnlyWhenRun() {
+        listMirror.follow(eventList);
+        eventList.add(BREAKFAST);
+        eventList.remove(DINNER);
+
+        assertTrue(listMirror.getList().isEmpty());
+        runUiThread();
+        assertEquals(Arrays.asList(LUNCH, BREAKFAST), listMirror.getList());
+    }
+
+    @Test
+    public void follow_sortedAndReplaced_sameAsList() {
+        listMirror.follow(eventList);
+        eventList.add(BREAKFAST);
+        eventList.sort();
+        eventList.setItem(2, LUNCH);
+        eventList.setAll(Arrays.asList(DINNER, BREAKFAST, LUNCH, DINNER));
+        eventList.remove(0);
+
+        runUiThread();
+        assertEquals(eventList.getList(), listMirror.getList());
+    }
+
+    @Test
+    public void follow_anotherList_stopsFollowingFirst() {
+        EventList other = new EventList();
+        other.add(BREAKFAST);
+
+        listMirror.follow(eventList);
+        listMirror.follow(other);
+        eventList.clear();
+
+        runUiThread();
+        assertEquals(Collections.singletonList(BREAKFAST), listMirror.getList());
+    }
+
+    private void runUiThread() {
+        while (!uiThread.isEmpty()) {
+            uiThread.poll().run();
+        }
+    }
+}